@@ -31,16 +31,23 @@ class SocialPostDelegate(
     override fun onBind(binding: ItemMomentCardBinding, item: Moment, position: Int) {
         binding.tvName.text = item.author.name
         binding.tvContent.text = item.content
-        binding.ivAvatar.loadUrl(item.author.avatar, isCircle = true)
+        // Holder 换绑到另一条数据时才清掉旧图，真正的图片请求放到延迟阶段；
+        // 同一条数据的完整重绑保留已显示的图片，避免闪白一帧
+        if (binding.root.tag != item.id) {
+            binding.root.tag = item.id
+            binding.ivAvatar.setImageDrawable(null)
+            binding.ivImage.setImageDrawable(null)
+        }
+        binding.imageContainer.visibility = if (item.images.isNotEmpty()) View.VISIBLE else View.GONE
+
+        updateLikeState(binding, item.isLiked, item.likes)
+    }
 
+    override fun onBindDeferred(binding: ItemMomentCardBinding, item: Moment, position: Int) {
+        binding.ivAvatar.loadUrl(item.author.avatar, isCircle = true)
         if (item.images.isNotEmpty()) {
-            binding.imageContainer.visibility = View.VISIBLE
             binding.ivImage.loadUrl(item.images[0])
-        } else {
-            binding.imageContainer.visibility = View.GONE
         }
-
-        updateLikeState(binding, item.isLiked, item.likes)
     }
 
     @SuppressLint("SetTextI18n")
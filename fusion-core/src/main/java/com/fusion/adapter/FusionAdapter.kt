@@ -8,8 +8,10 @@ import androidx.recyclerview.widget.RecyclerView
 import androidx.viewbinding.ViewBinding
 import com.fusion.adapter.delegate.BindingInflater
 import com.fusion.adapter.delegate.FusionDelegate
+import com.fusion.adapter.extensions.applyFullSpan
 import com.fusion.adapter.extensions.setupGridSupport
 import com.fusion.adapter.extensions.setupStaggeredSupport
+import com.fusion.adapter.internal.engine.FullSpanFlags
 import com.fusion.adapter.internal.engine.FusionCore
 import com.fusion.adapter.internal.engine.FusionExecutor
 import com.fusion.adapter.router.TypeRouter
@@ -30,6 +32,8 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
 
 
     private var items: List<Any> = Collections.emptyList()
+    // 与 items 一同替换的整行标记，仅 StaggeredGrid 下计算；局部增删后置空，回落到逐项查询
+    private var fullSpanFlags: FullSpanFlags? = null
     val currentItems: List<Any> get() = Collections.unmodifiableList(items)
     private val maxScheduledGeneration = AtomicInteger(0)
     private var pendingTask: FusionExecutor.Cancellable? = null
@@ -63,17 +67,24 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
         maxScheduledGeneration.incrementAndGet()
         pendingTask?.cancel()
         val safeItems = core.filter(newItems)
-        updateInternal(safeItems)
+        updateInternal(safeItems, if (core.hasStaggeredLayout()) core.computeFullSpanFlags(safeItems) else null)
     }
 
     fun setItemsAsync(newItems: List<Any>, listener: OnItemsChangedListener? = null) {
         pendingTask?.cancel()
         val generation = maxScheduledGeneration.incrementAndGet()
+        val staggered = core.hasStaggeredLayout()
+        val anchor = core.prepareAnchor()
+        val spanCount = core.gridSpanCount()
         pendingTask = FusionExecutor.execute {
             val safeItems = core.filter(newItems)
+            core.prepareRenderModels(safeItems, anchor)
+            val flags = if (staggered) core.computeFullSpanFlags(safeItems) else null
+            val spanSizes = if (spanCount > 0) core.computeSpanSizes(safeItems, spanCount) else null
             FusionExecutor.runOnMain {
                 if (maxScheduledGeneration.get() == generation) {
-                    updateInternal(safeItems)
+                    updateInternal(safeItems, flags)
+                    if (spanSizes != null) core.applySpanSizes(this, spanSizes, spanCount)
                     listener?.onItemsChanged()
                     pendingTask = null
                 }
@@ -81,8 +92,9 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
         }
     }
 
-    private fun updateInternal(safeItems: List<Any>) {
+    private fun updateInternal(safeItems: List<Any>, flags: FullSpanFlags?) {
         this.items = safeItems
+        this.fullSpanFlags = flags
         notifyDataSetChanged()
     }
 
@@ -92,6 +104,7 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
             val newList = ArrayList(this.items)
             newList.addAll(position, safeList)
             this.items = Collections.unmodifiableList(newList)
+            this.fullSpanFlags = null
             notifyItemRangeInserted(position, safeList.size)
         }
     }
@@ -101,6 +114,7 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
             val newList = ArrayList(this.items)
             newList.removeAt(position)
             this.items = Collections.unmodifiableList(newList)
+            this.fullSpanFlags = null
             notifyItemRemoved(position)
         }
     }
@@ -116,7 +130,7 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): RecyclerView.ViewHolder = core.onCreateViewHolder(parent, viewType)
     override fun onBindViewHolder(holder: RecyclerView.ViewHolder, position: Int) {
         val item = items[position]
-        holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+        applyFullSpan(holder, item, position)
         core.onBindViewHolder(holder, item, position)
     }
 
@@ -124,18 +138,26 @@ open class FusionAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(), Fusi
         if (payloads.isEmpty()) onBindViewHolder(holder, position)
         else {
             val item = items[position]
-            holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+            applyFullSpan(holder, item, position)
             core.onBindViewHolder(holder, item, position, payloads)
         }
     }
 
+    private fun applyFullSpan(holder: RecyclerView.ViewHolder, item: Any, position: Int) {
+        val flags = fullSpanFlags
+        if (flags != null) holder.applyFullSpan(flags.isFullSpan(position))
+        else holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+    }
+
     override fun onAttachedToRecyclerView(recyclerView: RecyclerView) {
         super.onAttachedToRecyclerView(recyclerView)
+        core.onAttachedToRecyclerView(recyclerView)
         recyclerView.setupGridSupport(this, { pos -> if (pos in items.indices) items[pos] else null }, { core.getDelegate(it) })
     }
 
     override fun onDetachedFromRecyclerView(recyclerView: RecyclerView) {
         super.onDetachedFromRecyclerView(recyclerView)
+        core.onDetachedFromRecyclerView(recyclerView)
         pendingTask?.cancel()
         pendingTask = null
     }
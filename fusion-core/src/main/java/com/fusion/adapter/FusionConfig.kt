@@ -2,6 +2,7 @@ package com.fusion.adapter
 
 import com.fusion.adapter.exception.ErrorListener
 import com.fusion.adapter.internal.DEFAULT_DEBOUNCE_INTERVAL
+import com.fusion.adapter.internal.DEFAULT_FLING_MODE_VELOCITY_DP
 
 /**
  * [FusionConfig]
@@ -17,6 +18,18 @@ class FusionConfig private constructor(builder: Builder) {
     @JvmField
     val defaultStableIds: Boolean = builder.defaultStableIds
 
+    /**
+     * Release 模式下每 N 次绑定采样一次耗时，0 表示关闭。Debug 模式下始终全量记录。
+     */
+    @JvmField
+    val bindLatencySampleRate: Int = builder.bindLatencySampleRate
+
+    /**
+     * 进入惯性滑动轻量绑定模式的速度阈值 (dp/s)，0 表示关闭。
+     */
+    @JvmField
+    val flingModeVelocityDp: Int = builder.flingModeVelocityDp
+
     // Log configuration
     @JvmField
     val logDir: String? = builder.logDir
@@ -28,6 +41,8 @@ class FusionConfig private constructor(builder: Builder) {
         internal var errorListener: ErrorListener? = null
         internal var globalDebounceInterval: Long = DEFAULT_DEBOUNCE_INTERVAL
         internal var defaultStableIds: Boolean = false
+        internal var bindLatencySampleRate: Int = 0
+        internal var flingModeVelocityDp: Int = DEFAULT_FLING_MODE_VELOCITY_DP
         internal var logDir: String? = null
         internal var logToFile: Boolean = true
 
@@ -47,6 +62,16 @@ class FusionConfig private constructor(builder: Builder) {
             this.defaultStableIds = defaultStableIds; return this
         }
 
+        fun setBindLatencySampleRate(everyNthBind: Int): Builder {
+            require(everyNthBind >= 0) { "Fusion: bindLatencySampleRate must be >= 0, was $everyNthBind" }
+            this.bindLatencySampleRate = everyNthBind; return this
+        }
+
+        fun setFlingModeVelocity(dpPerSecond: Int): Builder {
+            require(dpPerSecond >= 0) { "Fusion: flingModeVelocity must be >= 0, was $dpPerSecond" }
+            this.flingModeVelocityDp = dpPerSecond; return this
+        }
+
         fun setLogOutput(enableFile: Boolean, dirPath: String? = null): Builder {
             this.logToFile = enableFile
             this.logDir = dirPath
@@ -2,10 +2,12 @@ package com.fusion.adapter
 
 import android.view.LayoutInflater
 import android.view.ViewGroup
+import androidx.annotation.LayoutRes
 import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
 import androidx.viewbinding.ViewBinding
 import com.fusion.adapter.dsl.BindingDefinitionScope
+import com.fusion.adapter.dsl.LayoutDefinitionScope
 import com.fusion.adapter.dsl.RouterScope
 import com.fusion.adapter.internal.registry.DslAdapterFactory
 
@@ -22,6 +24,19 @@ inline fun <reified T : Any, reified VB : ViewBinding> FusionRegistry.register(
     this.register(T::class.java, delegate)
 }
 
+/**
+ * [register] Layout 资源模式入口
+ */
+@JvmName("registerLayout")
+inline fun <reified T : Any> FusionRegistry.register(
+    @LayoutRes layoutResId: Int,
+    crossinline block: LayoutDefinitionScope<T>.() -> Unit
+) {
+    val scope = LayoutDefinitionScope<T>().apply(block)
+    val delegate = DslAdapterFactory.createLayoutDelegate(T::class.java, layoutResId, scope.config, scope.viewIds)
+    this.register(T::class.java, delegate)
+}
+
 @JvmName("registerRouter")
 inline fun <reified T : Any> FusionRegistry.register(
     block: RouterScope<T>.() -> Unit
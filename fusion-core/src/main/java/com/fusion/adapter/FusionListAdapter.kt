@@ -12,8 +12,10 @@ import androidx.recyclerview.widget.RecyclerView
 import androidx.viewbinding.ViewBinding
 import com.fusion.adapter.delegate.BindingInflater
 import com.fusion.adapter.delegate.FusionDelegate
+import com.fusion.adapter.extensions.applyFullSpan
 import com.fusion.adapter.extensions.setupGridSupport
 import com.fusion.adapter.extensions.setupStaggeredSupport
+import com.fusion.adapter.internal.engine.FullSpanFlags
 import com.fusion.adapter.internal.engine.FusionCore
 import com.fusion.adapter.internal.engine.FusionExecutor
 import com.fusion.adapter.router.TypeRouter
@@ -70,13 +72,24 @@ open class FusionListAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(),
         configurator: PlaceholderConfigurator<VB>?
     ) = core.registerPlaceholder(inflater, configurator)
 
+    // 与 differ.currentList 按位置对应的整行标记，仅 StaggeredGrid 下计算
+    private var fullSpanFlags: FullSpanFlags? = null
+    // 标记所属的列表实例（提交完成时的 differ.currentList），列表被替换后标记即失效
+    private var fullSpanList: List<Any>? = null
+
     fun submitList(list: List<Any>?, commitCallback: Runnable? = null) {
         val rawList = if (list == null) emptyList() else ArrayList(list)
         FusionLogger.i("Adapter") { "submitList called. Size: ${rawList.size}" }
+        val staggered = core.hasStaggeredLayout()
+        val anchor = core.prepareAnchor()
+        val spanCount = core.gridSpanCount()
 
         FusionExecutor.execute {
             val start = System.currentTimeMillis()
             val safeList = core.filter(rawList)
+            core.prepareRenderModels(safeList, anchor)
+            val flags = if (staggered) core.computeFullSpanFlags(safeList) else null
+            val spanSizes = if (spanCount > 0) core.computeSpanSizes(safeList, spanCount) else null
 
             if (rawList.isNotEmpty() && safeList.isEmpty()) {
                 FusionLogger.w("Adapter") { "submitList: All items were filtered out!" }
@@ -86,6 +99,9 @@ open class FusionListAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(),
 
             FusionExecutor.runOnMain {
                 differ.submitList(safeList) {
+                    fullSpanFlags = flags
+                    fullSpanList = if (flags != null) differ.currentList else null
+                    if (spanSizes != null) core.applySpanSizes(this, spanSizes, spanCount)
                     FusionLogger.d("Adapter") { "DiffUtil finished. Updating UI." }
                     commitCallback?.run()
                 }
@@ -98,6 +114,8 @@ open class FusionListAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(),
         val rawList = if (list == null) emptyList() else ArrayList(list)
         FusionLogger.i("Adapter") { "setItems called (Sync). Size: ${rawList.size}" }
         val safeList = core.filter(rawList)
+        fullSpanFlags = null
+        fullSpanList = null
         differ.submitList(safeList, commitCallback)
     }
 
@@ -112,7 +130,7 @@ open class FusionListAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(),
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): RecyclerView.ViewHolder = core.onCreateViewHolder(parent, viewType)
     override fun onBindViewHolder(holder: RecyclerView.ViewHolder, position: Int) {
         val item = differ.currentList[position]
-        holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+        applyFullSpan(holder, item, position)
         core.onBindViewHolder(holder, item, position)
     }
 
@@ -120,16 +138,28 @@ open class FusionListAdapter : RecyclerView.Adapter<RecyclerView.ViewHolder>(),
         if (payloads.isEmpty()) onBindViewHolder(holder, position)
         else {
             val item = differ.currentList[position]
-            holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+            applyFullSpan(holder, item, position)
             core.onBindViewHolder(holder, item, position, payloads)
         }
     }
 
+    private fun applyFullSpan(holder: RecyclerView.ViewHolder, item: Any, position: Int) {
+        val flags = fullSpanFlags
+        if (flags != null && fullSpanList === differ.currentList) holder.applyFullSpan(flags.isFullSpan(position))
+        else holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+    }
+
     override fun onAttachedToRecyclerView(recyclerView: RecyclerView) {
         super.onAttachedToRecyclerView(recyclerView)
+        core.onAttachedToRecyclerView(recyclerView)
         recyclerView.setupGridSupport(this, { pos -> if (pos in currentList.indices) currentList[pos] else null }, { core.getDelegate(it) })
     }
 
+    override fun onDetachedFromRecyclerView(recyclerView: RecyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView)
+        core.onDetachedFromRecyclerView(recyclerView)
+    }
+
     override fun onViewRecycled(holder: RecyclerView.ViewHolder) = core.onViewRecycled(holder)
     override fun onViewAttachedToWindow(holder: RecyclerView.ViewHolder) = core.onViewAttachedToWindow(holder)
     override fun onViewDetachedFromWindow(holder: RecyclerView.ViewHolder) = core.onViewDetachedFromWindow(holder)
@@ -1,11 +1,13 @@
 package com.fusion.adapter.delegate
 
 import android.view.LayoutInflater
+import android.view.View
 import android.view.ViewGroup
 import androidx.recyclerview.widget.RecyclerView
 import androidx.viewbinding.ViewBinding
+import com.fusion.adapter.Fusion
+import com.fusion.adapter.extensions.findContainingFusionHolder
 import com.fusion.adapter.extensions.getItem
-import com.fusion.adapter.extensions.setItem
 import com.fusion.adapter.internal.FusionInternalTags
 import com.fusion.adapter.core.GlobalTypeKey
 import com.fusion.adapter.core.ViewTypeKey
@@ -46,6 +48,38 @@ abstract class BindingDelegate<T : Any, VB : ViewBinding>(
         this.onItemLongClick = listener
     }
 
+    /**
+     * 每个 Delegate 共享一个监听器实例，点击时再反查 Holder / Position / Item，
+     * 避免每创建一个 Holder 就分配一组 Listener 闭包。
+     */
+    private val clickDispatcher = View.OnClickListener { v -> dispatchClick(v) }
+    private val longClickDispatcher = View.OnLongClickListener { v -> dispatchLongClick(v) }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun dispatchClick(v: View) {
+        val listener = onItemClick ?: return
+        val holder = v.findContainingFusionHolder() as? BindingHolder<VB> ?: return
+        val debounce = clickDebounceMs ?: Fusion.getConfig().globalDebounceInterval
+        val now = System.currentTimeMillis()
+        if (now - holder.lastClickTime < debounce) return
+        holder.lastClickTime = now
+
+        val pos = holder.bindingAdapterPosition
+        if (pos == RecyclerView.NO_POSITION) return
+        val item = holder.getItem<T>() ?: return
+        listener.invoke(holder.binding, item, pos)
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun dispatchLongClick(v: View): Boolean {
+        val listener = onItemLongClick ?: return false
+        val holder = v.findContainingFusionHolder() as? BindingHolder<VB> ?: return false
+        val pos = holder.bindingAdapterPosition
+        if (pos == RecyclerView.NO_POSITION) return false
+        val item = holder.getItem<T>() ?: return false
+        return listener.invoke(holder.binding, item, pos)
+    }
+
     protected open fun onInflateBinding(inflater: LayoutInflater, parent: ViewGroup): VB {
         return this.inflater?.inflate(inflater, parent, false)
             ?: throw IllegalStateException("Fusion: Either provide an inflater in constructor or override onInflateBinding()")
@@ -54,49 +88,66 @@ abstract class BindingDelegate<T : Any, VB : ViewBinding>(
     final override fun onCreateViewHolder(parent: ViewGroup): BindingHolder<VB> {
         val binding = onInflateBinding(LayoutInflater.from(parent.context), parent)
         val holder = BindingHolder(binding)
-        if (onItemClick != null) {
-            holder.itemView.setOnClickListener {
-                val debounce = clickDebounceMs ?: com.fusion.adapter.Fusion.getConfig().globalDebounceInterval
-                val now = System.currentTimeMillis()
-                val lastClick = holder.itemView.getTag(com.fusion.adapter.core.R.id.fusion_last_click_time) as? Long ?: 0L
-                
-                if (now - lastClick >= debounce) {
-                    holder.itemView.setTag(com.fusion.adapter.core.R.id.fusion_last_click_time, now)
-                    val pos = holder.bindingAdapterPosition
-                    if (pos != RecyclerView.NO_POSITION) {
-                        val item = holder.getItem<T>()
-                        if (item != null) onItemClick?.invoke(holder.binding, item, pos)
-                    }
-                }
-            }
-        }
-        if (onItemLongClick != null) {
-            holder.itemView.setOnLongClickListener {
-                val pos = holder.bindingAdapterPosition
-                if (pos != RecyclerView.NO_POSITION) {
-                    val item = holder.getItem<T>()
-                    if (item != null) return@setOnLongClickListener onItemLongClick?.invoke(holder.binding, item, pos) == true
-                }
-                false
-            }
-        }
+        if (onItemClick != null) holder.itemView.setOnClickListener(clickDispatcher)
+        if (onItemLongClick != null) holder.itemView.setOnLongClickListener(longClickDispatcher)
         onCreate(holder.binding); return holder
     }
 
     open fun onCreate(binding: VB) {}
 
     final override fun onBindViewHolder(holder: BindingHolder<VB>, item: T, position: Int, payloads: MutableList<Any>) {
-        holder.setItem(item)
+        holder.markBound(item, payloads.isEmpty())
         if (payloads.isNotEmpty()) {
             val handled = dispatchHandledPayloads(holder.binding, item, payloads)
+            holder.payloadFellBack = !handled
             onPayload(holder.binding, item, position, payloads, handled)
         } else {
-            onBind(holder.binding, item, position)
+            val model = holder.renderModel
+            if (model != null && !holder.boundInFlingMode) {
+                onBindPrepared(holder.binding, item, position, model)
+            } else {
+                onBind(holder.binding, item, position, holder.boundInFlingMode)
+            }
         }
     }
 
     abstract fun onBind(binding: VB, item: T, position: Int)
 
+    /**
+     * [Fling Mode] 带轻量模式标记的绑定入口。
+     * [flingMode] 为 true 表示列表正在高速惯性滑动，可只绑定占位 / 文本等轻量内容；
+     * 滚动停止后库会自动对可见 Holder 以普通模式（flingMode = false）重新绑定。
+     * 默认实现忽略该标记，直接调用 [onBind]。
+     */
+    open fun onBind(binding: VB, item: T, position: Int, flingMode: Boolean) {
+        onBind(binding, item, position)
+    }
+
+    override val supportsFlingMode: Boolean =
+        overridesMethod(BindingDelegate::class.java, "onBind", ViewBinding::class.java, Any::class.java, Int::class.javaPrimitiveType!!, Boolean::class.javaPrimitiveType!!)
+
+    /**
+     * [Prepare] 使用 [prepare] 预先算好的渲染模型进行绑定，主线程只做赋值。
+     * 默认实现忽略 [model]，直接调用 [onBind]。
+     */
+    open fun onBindPrepared(binding: VB, item: T, position: Int, model: Any) {
+        onBind(binding, item, position)
+    }
+
+    /**
+     * [Staged Binding] 延迟绑定阶段：在当前帧绘制完成后执行（惯性滑动中则等到滚动停止）。
+     * 适合放置 Span 构建、图片请求、嵌套列表初始化等昂贵操作；onBind 中只保留关键的轻量绑定。
+     * Holder 在执行前被回收或重新绑定时自动取消。
+     */
+    open fun onBindDeferred(binding: VB, item: T, position: Int) {}
+
+    override val hasDeferredBind: Boolean =
+        overridesMethod(BindingDelegate::class.java, "onBindDeferred", ViewBinding::class.java, Any::class.java, Int::class.javaPrimitiveType!!)
+
+    override fun dispatchDeferredBind(holder: BindingHolder<VB>, item: T, position: Int) {
+        onBindDeferred(holder.binding, item, position)
+    }
+
     open fun onPayload(binding: VB, item: T, position: Int, payloads: List<Any>, handled: Boolean) {
         if (!handled) onBind(binding, item, position)
     }
@@ -1,6 +1,5 @@
 package com.fusion.adapter.delegate
 
-import androidx.recyclerview.widget.RecyclerView
 import androidx.viewbinding.ViewBinding
 
-class BindingHolder<VB : ViewBinding>(val binding: VB) : RecyclerView.ViewHolder(binding.root)
\ No newline at end of file
+class BindingHolder<VB : ViewBinding>(val binding: VB) : FusionHolder(binding.root)
@@ -5,6 +5,7 @@ import android.view.ViewGroup
 import androidx.viewbinding.ViewBinding
 import com.fusion.adapter.dsl.ItemConfiguration
 import com.fusion.adapter.core.ViewTypeKey
+import com.fusion.adapter.internal.engine.AsyncBindingPool
 
 /**
  * [DslBindingDelegate]
@@ -18,6 +19,7 @@ internal class DslBindingDelegate<T : Any, VB : ViewBinding>(
 
     init {
         config.observers.forEach { addObserver(it) }
+        skipRedundantBinds = config.skipRedundantBinds
 
         // Correctly pass click listeners to base class
         config.onClick?.let { listener ->
@@ -31,8 +33,11 @@ internal class DslBindingDelegate<T : Any, VB : ViewBinding>(
         }
     }
 
+    internal val asyncPool: AsyncBindingPool<VB>? =
+        if (config.asyncInflateCapacity > 0) AsyncBindingPool(config.asyncInflateCapacity, inflate) else null
+
     override fun onInflateBinding(inflater: LayoutInflater, parent: ViewGroup): VB {
-        return inflate(inflater, parent, false)
+        return asyncPool?.poll(parent) ?: inflate(inflater, parent, false)
     }
 
     override fun onCreate(binding: VB) {
@@ -43,6 +48,31 @@ internal class DslBindingDelegate<T : Any, VB : ViewBinding>(
         config.onBind?.invoke(binding, item, position)
     }
 
+    override val hasPrepare: Boolean
+        get() = config.prepare != null
+
+    override fun prepare(item: T): Any? = config.prepare?.invoke(item)
+
+    override fun onBindPrepared(binding: VB, item: T, position: Int, model: Any) {
+        val block = config.onBindPrepared
+        if (block != null) block.invoke(binding, item, model) else onBind(binding, item, position)
+    }
+
+    override val supportsFlingMode: Boolean
+        get() = config.onBindFling != null
+
+    override fun onBind(binding: VB, item: T, position: Int, flingMode: Boolean) {
+        val fling = config.onBindFling
+        if (flingMode && fling != null) fling.invoke(binding, item, position) else onBind(binding, item, position)
+    }
+
+    override val hasDeferredBind: Boolean
+        get() = config.onBindDeferred != null
+
+    override fun onBindDeferred(binding: VB, item: T, position: Int) {
+        config.onBindDeferred?.invoke(binding, item, position)
+    }
+
     override fun onPayload(binding: VB, item: T, position: Int, payloads: List<Any>, handled: Boolean) {
         if (config.onPayload != null) {
             config.onPayload?.invoke(binding, item, position, payloads)
@@ -51,6 +81,8 @@ internal class DslBindingDelegate<T : Any, VB : ViewBinding>(
         }
     }
 
+    override fun getRevision(item: T): Any? = config.revision?.invoke(item)
+
     override fun getStableId(item: T): Any {
         // 1. 优先使用 DSL 中 stableId { ... } 配置的 Lambda
         val dslKey = config.itemKey?.invoke(item)
@@ -10,11 +10,13 @@ import com.fusion.adapter.core.ViewTypeKey
 internal class DslLayoutDelegate<T : Any>(
     override val viewTypeKey: ViewTypeKey,
     layoutResId: Int,
-    @PublishedApi internal val config: ItemConfiguration<T, LayoutHolder>
-) : LayoutDelegate<T>(layoutResId) {
+    @PublishedApi internal val config: ItemConfiguration<T, LayoutHolder>,
+    viewIds: IntArray
+) : LayoutDelegate<T>(layoutResId, *viewIds) {
 
     init {
         config.observers.forEach { addObserver(it) }
+        skipRedundantBinds = config.skipRedundantBinds
 
         // Correctly pass click listeners to base class
         config.onClick?.let { listener ->
@@ -38,6 +40,31 @@ internal class DslLayoutDelegate<T : Any>(
         config.onBind?.invoke(this, item, bindingAdapterPosition)
     }
 
+    override val hasPrepare: Boolean
+        get() = config.prepare != null
+
+    override fun prepare(item: T): Any? = config.prepare?.invoke(item)
+
+    override fun LayoutHolder.onBindPrepared(item: T, model: Any) {
+        val block = config.onBindPrepared
+        if (block != null) block.invoke(this, item, model) else onBind(item)
+    }
+
+    override val supportsFlingMode: Boolean
+        get() = config.onBindFling != null
+
+    override fun LayoutHolder.onBind(item: T, flingMode: Boolean) {
+        val fling = config.onBindFling
+        if (flingMode && fling != null) fling.invoke(this, item, bindingAdapterPosition) else onBind(item)
+    }
+
+    override val hasDeferredBind: Boolean
+        get() = config.onBindDeferred != null
+
+    override fun LayoutHolder.onBindDeferred(item: T) {
+        config.onBindDeferred?.invoke(this, item, bindingAdapterPosition)
+    }
+
     override fun LayoutHolder.onPayload(item: T, payloads: List<Any>, handled: Boolean) {
         if (config.onPayload != null) {
             config.onPayload?.invoke(this, item, bindingAdapterPosition, payloads)
@@ -47,6 +74,8 @@ internal class DslLayoutDelegate<T : Any>(
         }
     }
 
+    override fun getRevision(item: T): Any? = config.revision?.invoke(item)
+
     override fun getStableId(item: T): Any {
         // 1. 优先使用 DSL 中 stableId { ... } 配置
         val dslKey = config.itemKey?.invoke(item)
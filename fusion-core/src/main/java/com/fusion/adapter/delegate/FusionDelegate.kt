@@ -4,6 +4,8 @@ import android.view.ViewGroup
 import androidx.annotation.RestrictTo
 import androidx.recyclerview.widget.RecyclerView
 import com.fusion.adapter.core.ViewTypeKey
+import com.fusion.adapter.internal.DEFAULT_RENDER_MODEL_CACHE_SIZE
+import com.fusion.adapter.internal.diff.ChangeMask
 import com.fusion.adapter.internal.diff.PropertyObserver
 import com.fusion.adapter.internal.diff.PropertyObserver1
 import com.fusion.adapter.internal.diff.PropertyObserver2
@@ -11,6 +13,7 @@ import com.fusion.adapter.internal.diff.PropertyObserver3
 import com.fusion.adapter.internal.diff.PropertyObserver4
 import com.fusion.adapter.internal.diff.PropertyObserver5
 import com.fusion.adapter.internal.diff.PropertyObserver6
+import com.fusion.adapter.internal.engine.RenderModelCache
 import com.fusion.adapter.log.FusionLogger
 
 /**
@@ -20,16 +23,25 @@ abstract class FusionDelegate<T : Any, VH : RecyclerView.ViewHolder> {
     
     abstract val viewTypeKey: ViewTypeKey
 
-    // Fast-path slots for the first 3 observers (covers 99% of use cases)
-    private var observer1: PropertyObserver<T>? = null
-    private var observer2: PropertyObserver<T>? = null
-    private var observer3: PropertyObserver<T>? = null
-    private var extraObservers: MutableList<PropertyObserver<T>>? = null
+    // 观察者下标即其在 ChangeMask 中的 bit 位
+    private val observers = ArrayList<PropertyObserver<T>>(4)
 
     internal var internalRouterKeyProvider: ((T) -> Any?)? = null
 
     abstract fun getStableId(item: T): Any
 
+    /**
+     * [Redundant Bind] 内容版本号。
+     * 同一个 Holder 再次绑定到 Key、Revision、Position 都相同的数据时，FusionCore 会直接跳过 onBind。
+     * 返回 null（默认）时从不跳过：数据可能被原地修改后再通过 notifyItemChanged 刷新。
+     */
+    open fun getRevision(item: T): Any? = null
+
+    /**
+     * 是否允许跳过冗余绑定。仅在 [getRevision] 返回非 null 时生效；关闭后连 Key / Revision 都不再计算。
+     */
+    var skipRedundantBinds: Boolean = true
+
     internal fun internalInjectRouterKey(provider: (T) -> Any?) {
         this.internalRouterKeyProvider = provider
     }
@@ -60,87 +72,62 @@ abstract class FusionDelegate<T : Any, VH : RecyclerView.ViewHolder> {
     }
 
     /**
-     * [Optimization] Highly optimized for performance and memory allocation.
-     * Uses a lazy-list approach and fast-path slots.
+     * [Optimization] Each observer owns one bit; the change set is a single interned [ChangeMask].
+     * No list is allocated, and nothing at all when no property has changed.
      */
     open fun getChangePayload(oldItem: T, newItem: T): Any? {
-        val obs1 = observer1 ?: return null
-        
-        val p1 = obs1.checkChange(oldItem, newItem)
-        val p2 = observer2?.checkChange(oldItem, newItem)
-        val p3 = observer3?.checkChange(oldItem, newItem)
-        
-        // Fast-path: Only 1-3 observers and no extras
-        if (extraObservers == null) {
-            return when {
-                p1 != null && p2 != null && p3 != null -> listOf(p1, p2, p3)
-                p1 != null && p2 != null -> listOf(p1, p2)
-                p1 != null && p3 != null -> listOf(p1, p3)
-                p2 != null && p3 != null -> listOf(p2, p3)
-                p1 != null -> p1
-                p2 != null -> p2
-                p3 != null -> p3
-                else -> null
-            }
-        }
+        val list = observers
+        if (list.isEmpty()) return null
 
-        // Slow-path: Strictly lazy allocation. 
-        // We only create the ArrayList if at least one property has actually changed.
-        var result: MutableList<Any>? = null
-        
-        if (p1 != null) {
-            result = ArrayList(4)
-            result.add(p1)
+        var bits = 0L
+        for (i in list.indices) {
+            if (list[i].checkChange(oldItem, newItem) != null) bits = bits or (1L shl i)
         }
-        
-        if (p2 != null) {
-            if (result == null) result = ArrayList(4)
-            result.add(p2)
-        }
-        
-        if (p3 != null) {
-            if (result == null) result = ArrayList(4)
-            result.add(p3)
-        }
-        
-        extraObservers?.let { list ->
-            for (i in list.indices) {
-                val p = list[i].checkChange(oldItem, newItem)
-                if (p != null) {
-                    if (result == null) result = ArrayList()
-                    result!!.add(p)
-                }
-            }
-        }
-        
-        return result
+        return ChangeMask.of(bits)
     }
 
+    /**
+     * RecyclerView 可能把多次局部刷新合并成一个 payloads 列表：先把所有 [ChangeMask] 按位或，
+     * 再按 bit 顺序执行观察者，同一属性在一次绑定中只会执行一次。
+     */
     protected fun dispatchHandledPayloads(receiver: Any, item: T, payloads: List<Any>): Boolean {
+        var bits = 0L
         var handled = false
-        for (rawPayload in payloads) {
-            val items = if (rawPayload is List<*>) rawPayload else listOf(rawPayload)
-            for (p in items) {
-                if (p is PropertyObserver<*>) {
-                    @Suppress("UNCHECKED_CAST")
-                    (p as PropertyObserver<T>).execute(receiver, item)
-                    handled = true
+        for (i in payloads.indices) {
+            when (val p = payloads[i]) {
+                is ChangeMask -> bits = bits or p.bits
+                is List<*> -> for (j in p.indices) {
+                    val nested = p[j]
+                    if (nested is ChangeMask) bits = bits or nested.bits
+                    else if (nested is PropertyObserver<*>) handled = executeObserver(nested, receiver, item) || handled
                 }
+                // 兼容自定义 getChangePayload 直接返回观察者实例
+                is PropertyObserver<*> -> handled = executeObserver(p, receiver, item) || handled
             }
         }
-        return handled
+        if (bits == 0L) return handled
+
+        val list = observers
+        var remaining = bits
+        while (remaining != 0L) {
+            val index = java.lang.Long.numberOfTrailingZeros(remaining)
+            remaining = remaining and (remaining - 1)
+            if (index < list.size) list[index].execute(receiver, item)
+        }
+        return true
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun executeObserver(observer: PropertyObserver<*>, receiver: Any, item: T): Boolean {
+        (observer as PropertyObserver<T>).execute(receiver, item)
+        return true
     }
 
     open fun addObserver(observer: PropertyObserver<T>) {
-        when {
-            observer1 == null -> observer1 = observer
-            observer2 == null -> observer2 = observer
-            observer3 == null -> observer3 = observer
-            else -> {
-                if (extraObservers == null) extraObservers = ArrayList(4)
-                extraObservers!!.add(observer)
-            }
+        check(observers.size < ChangeMask.MAX_OBSERVERS) {
+            "Fusion: At most ${ChangeMask.MAX_OBSERVERS} property observers can be registered per delegate."
         }
+        observers.add(observer)
     }
 
     @Suppress("UNCHECKED_CAST")
@@ -188,6 +175,100 @@ abstract class FusionDelegate<T : Any, VH : RecyclerView.ViewHolder> {
         addObserver(PropertyObserver6(getter1, getter2, getter3, getter4, getter5, getter6) { v1, v2, v3, v4, v5, v6 -> (this as VH).action(v1, v2, v3, v4, v5, v6) })
     }
 
+    // --- Fling Mode ---
+
+    /** 是否提供惯性滑动时的轻量绑定。为 false 时始终以普通模式绑定。 */
+    internal open val supportsFlingMode: Boolean
+        get() = false
+
+    // --- Prepare Stage ---
+
+    /**
+     * [Prepare] 后台预计算渲染模型（格式化日期、构建 SpannableString、计算颜色等）。
+     * 在 submitList / setItemsAsync 的过滤阶段于 FusionExecutor 上执行，结果按 Stable ID + Revision 缓存，
+     * 完整绑定时交给 onBindPrepared。缓存未命中时在绑定前同步补算。返回 null 表示无需预计算。
+     * [getRevision] 返回 null 的数据不缓存也不预计算，每次完整绑定都会同步调用。
+     *
+     * 运行在后台线程，不要访问 View。
+     */
+    open fun prepare(item: T): Any? = null
+
+    /**
+     * 渲染模型 LRU 的容量，需在首次提交数据前设置。后台预计算每次最多为该 Delegate 计算这么多条，
+     * 从可见位置开始，超出部分留给绑定阶段。
+     */
+    var renderModelCacheSize: Int = DEFAULT_RENDER_MODEL_CACHE_SIZE
+
+    private val prepareOverridden by lazy(LazyThreadSafetyMode.PUBLICATION) {
+        overridesMethod(FusionDelegate::class.java, "prepare", Any::class.java)
+    }
+
+    internal open val hasPrepare: Boolean
+        get() = prepareOverridden
+
+    @Volatile
+    private var renderModels: RenderModelCache? = null
+
+    private fun renderModelCache(): RenderModelCache {
+        renderModels?.let { return it }
+        synchronized(this) {
+            return renderModels ?: RenderModelCache(renderModelCacheSize).also { renderModels = it }
+        }
+    }
+
+    /**
+     * 命中缓存直接返回，否则调用 [prepare] 并写入缓存。没有 Revision 时不读写缓存，直接调用 [prepare]。
+     */
+    internal fun resolveRenderModel(item: T): Any? {
+        val revision = getRevision(item) ?: return prepare(item)
+        val key = getStableId(item)
+        val cache = renderModelCache()
+        cache.get(key, revision)?.let { return it }
+        val model = prepare(item) ?: return null
+        cache.put(key, revision, model)
+        return model
+    }
+
+    /**
+     * 后台预计算入口：只为可缓存（有 Revision）的数据计算，返回是否写入了缓存。
+     */
+    internal fun cacheRenderModel(item: T): Boolean {
+        if (getRevision(item) == null) return false
+        return resolveRenderModel(item) != null
+    }
+
+    /**
+     * 把渲染模型缓存扩大到至少 [items] 条（只增不减），用于容量由数据窗口决定的场景（如分页）。
+     */
+    internal fun ensureRenderModelCapacity(items: Int) {
+        synchronized(this) {
+            if (items <= renderModelCacheSize) return
+            renderModelCacheSize = items
+            renderModels?.resize(items)
+        }
+    }
+
+    internal fun trimRenderModels(): Int = renderModels?.clear() ?: 0
+
+    // --- Staged Binding ---
+
+    /** 是否存在延迟绑定阶段。为 false 时 FusionCore 不会为其调度任何任务。 */
+    internal open val hasDeferredBind: Boolean
+        get() = false
+
+    internal open fun dispatchDeferredBind(holder: VH, item: T, position: Int) {}
+
+    /**
+     * 判断子类是否重写了基类 [base] 中的公开方法，用于零配置识别可选钩子。
+     */
+    internal fun overridesMethod(base: Class<*>, name: String, vararg params: Class<*>): Boolean {
+        return try {
+            javaClass.getMethod(name, *params).declaringClass != base
+        } catch (e: NoSuchMethodException) {
+            false
+        }
+    }
+
     open fun onViewRecycled(holder: VH) {}
     open fun onViewAttachedToWindow(holder: VH) {}
     open fun onViewDetachedFromWindow(holder: VH) {}
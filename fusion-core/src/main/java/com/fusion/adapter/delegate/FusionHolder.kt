@@ -0,0 +1,90 @@
+package com.fusion.adapter.delegate
+
+import android.view.View
+import androidx.recyclerview.widget.RecyclerView
+import com.fusion.adapter.core.R
+
+/**
+ * [FusionHolder]
+ * Fusion 自有 ViewHolder 的公共基类。
+ *
+ * 绑定状态（当前 Item、绑定代数、解析出的 Delegate）直接存放在字段中，
+ * 绑定与点击反查都无需经过 View 的 keyed-tag SparseArray。
+ */
+abstract class FusionHolder internal constructor(itemView: View) : RecyclerView.ViewHolder(itemView) {
+
+    /** 当前绑定的数据项，回收后清空。View.getItem / setItem 始终读写该字段。 */
+    @JvmField
+    internal var boundItem: Any? = null
+
+    /** 每次完整绑定或回收时自增，用于识别异步 / 延迟任务是否已过期。 */
+    @JvmField
+    internal var bindGeneration: Int = 0
+
+    /** 最近一次绑定时由 FusionCore 解析出的 Delegate。 */
+    @JvmField
+    internal var boundDelegate: FusionDelegate<Any, RecyclerView.ViewHolder>? = null
+
+    /** 上次完整绑定时的 Key / Revision / Position，用于冗余绑定判定；NO_POSITION 表示无效。 */
+    @JvmField
+    internal var boundKey: Any? = null
+
+    @JvmField
+    internal var boundRevision: Any? = null
+
+    @JvmField
+    internal var boundPosition: Int = RecyclerView.NO_POSITION
+
+    /** 本次完整绑定是否以惯性滑动轻量模式执行；滚动停止后据此补绑。 */
+    @JvmField
+    internal var boundInFlingMode: Boolean = false
+
+    /** 本次完整绑定使用的预计算渲染模型（见 [FusionDelegate.prepare]）。 */
+    @JvmField
+    internal var renderModel: Any? = null
+
+    /** 点击防抖时间戳，原始类型字段，避免每次点击向 View Tag 装箱写入 Long。 */
+    @JvmField
+    internal var lastClickTime: Long = 0L
+
+    /** 本次 Payload 绑定是否因未被处理而回落到 onBind，回落后需要重新执行延迟阶段。 */
+    @JvmField
+    internal var payloadFellBack: Boolean = false
+
+    init {
+        // 创建时记录一次，itemView 未挂载时也能找到所属 Holder
+        itemView.setTag(R.id.fusion_holder_tag, this)
+    }
+
+    internal fun markBound(item: Any, fullBind: Boolean) {
+        boundItem = item
+        payloadFellBack = false
+        // 局部刷新不会清空延迟阶段加载的内容，不作废尚未执行的延迟任务
+        if (fullBind) bindGeneration++
+    }
+
+    /** 作废所有基于当前绑定代数的延迟任务（回收时调用）。 */
+    internal fun cancelPendingWork() {
+        bindGeneration++
+    }
+
+    /**
+     * 只有 Delegate 提供了非空 Revision 才能判定为冗余绑定：同一实例可能被原地修改后再刷新。
+     */
+    internal fun isBoundTo(delegate: FusionDelegate<*, *>, key: Any, revision: Any, position: Int): Boolean {
+        if (boundPosition != position || boundDelegate !== delegate || boundKey != key) return false
+        return revision == boundRevision
+    }
+
+    internal fun rememberBindState(key: Any, revision: Any?, position: Int) {
+        boundKey = key
+        boundRevision = revision
+        boundPosition = position
+    }
+
+    internal fun invalidateBindState() {
+        boundKey = null
+        boundRevision = null
+        boundPosition = RecyclerView.NO_POSITION
+    }
+}
@@ -9,8 +9,15 @@ import androidx.viewbinding.ViewBinding;
 import com.fusion.adapter.internal.FusionInternalTags;
 import com.fusion.adapter.core.GlobalTypeKey;
 import com.fusion.adapter.core.ViewTypeKey;
+import com.fusion.adapter.internal.diff.BooleanPropertyObserver;
+import com.fusion.adapter.internal.diff.FloatPropertyObserver;
+import com.fusion.adapter.internal.diff.IntPropertyObserver;
+import com.fusion.adapter.internal.diff.LongPropertyObserver;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import kotlin.Unit;
 
@@ -125,4 +132,89 @@ public abstract class JavaDelegate<T, VB extends ViewBinding> extends BindingDel
             return Unit.INSTANCE;
         });
     }
+
+    // --- Primitive Payload：取值、比较、分发均不装箱 ---
+
+    public interface ToFloatFunction<T> {
+        float applyAsFloat(T item);
+    }
+
+    public interface IntPayloadConsumer<VB> {
+        void accept(VB binding, int val);
+    }
+
+    public interface LongPayloadConsumer<VB> {
+        void accept(VB binding, long val);
+    }
+
+    public interface BooleanPayloadConsumer<VB> {
+        void accept(VB binding, boolean val);
+    }
+
+    public interface FloatPayloadConsumer<VB> {
+        void accept(VB binding, float val);
+    }
+
+    /**
+     * receiver 已由 BindingDelegate.addObserver 解包为 VB。
+     */
+    @SuppressWarnings("unchecked")
+    protected final void bindPayloadInt(@NonNull ToIntFunction<T> getter, @NonNull IntPayloadConsumer<VB> consumer) {
+        addObserver(new IntPropertyObserver<T>() {
+            @Override
+            public int get(T item) {
+                return getter.applyAsInt(item);
+            }
+
+            @Override
+            public void apply(@NonNull Object receiver, int value) {
+                consumer.accept((VB) receiver, value);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final void bindPayloadLong(@NonNull ToLongFunction<T> getter, @NonNull LongPayloadConsumer<VB> consumer) {
+        addObserver(new LongPropertyObserver<T>() {
+            @Override
+            public long get(T item) {
+                return getter.applyAsLong(item);
+            }
+
+            @Override
+            public void apply(@NonNull Object receiver, long value) {
+                consumer.accept((VB) receiver, value);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final void bindPayloadBoolean(@NonNull Predicate<T> getter, @NonNull BooleanPayloadConsumer<VB> consumer) {
+        addObserver(new BooleanPropertyObserver<T>() {
+            @Override
+            public boolean get(T item) {
+                return getter.test(item);
+            }
+
+            @Override
+            public void apply(@NonNull Object receiver, boolean value) {
+                consumer.accept((VB) receiver, value);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final void bindPayloadFloat(@NonNull ToFloatFunction<T> getter, @NonNull FloatPayloadConsumer<VB> consumer) {
+        addObserver(new FloatPropertyObserver<T>() {
+            @Override
+            public float get(T item) {
+                return getter.applyAsFloat(item);
+            }
+
+            @Override
+            public void apply(@NonNull Object receiver, float value) {
+                consumer.accept((VB) receiver, value);
+            }
+        });
+    }
 }
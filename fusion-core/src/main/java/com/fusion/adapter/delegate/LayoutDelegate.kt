@@ -1,22 +1,33 @@
 package com.fusion.adapter.delegate
 
 import android.view.LayoutInflater
+import android.view.View
 import android.view.ViewGroup
+import androidx.annotation.IdRes
 import androidx.annotation.LayoutRes
 import androidx.recyclerview.widget.RecyclerView
+import com.fusion.adapter.extensions.findContainingFusionHolder
 import com.fusion.adapter.extensions.getItem
-import com.fusion.adapter.extensions.setItem
 import com.fusion.adapter.internal.FusionInternalTags
 import com.fusion.adapter.core.GlobalTypeKey
 import com.fusion.adapter.core.ViewTypeKey
+import java.util.concurrent.atomic.LongAdder
 
 /**
  * [LayoutDelegate]
+ *
+ * @param viewIds Optional view IDs resolved once per holder at creation time.
+ * Bind code can read them via [LayoutHolder.view] (by index) or [LayoutHolder.findView] (by ID).
  */
-abstract class LayoutDelegate<T : Any>(@param:LayoutRes private val layoutResId: Int) : FusionDelegate<T, LayoutHolder>() {
+abstract class LayoutDelegate<T : Any>(
+    @param:LayoutRes private val layoutResId: Int,
+    @IdRes private vararg val viewIds: Int
+) : FusionDelegate<T, LayoutHolder>() {
 
     override val viewTypeKey: ViewTypeKey = GlobalTypeKey(this::class.java, FusionInternalTags.TAG_LAYOUT_DELEGATE)
 
+    internal val undeclaredViewLookups = LongAdder()
+
     private var onItemClick: ((holder: LayoutHolder, item: T, position: Int) -> Unit)? = null
     private var onItemLongClick: ((holder: LayoutHolder, item: T, position: Int) -> Boolean)? = null
 
@@ -28,30 +39,35 @@ abstract class LayoutDelegate<T : Any>(@param:LayoutRes private val layoutResId:
         this.onItemLongClick = listener
     }
 
+    // 每个 Delegate 共享一个监听器实例，点击时再反查 Holder
+    private val clickDispatcher = View.OnClickListener { v -> dispatchClick(v) }
+    private val longClickDispatcher = View.OnLongClickListener { v -> dispatchLongClick(v) }
+
+    private fun dispatchClick(v: View) {
+        val listener = onItemClick ?: return
+        val holder = v.findContainingFusionHolder() as? LayoutHolder ?: return
+        val pos = holder.bindingAdapterPosition
+        if (pos == RecyclerView.NO_POSITION) return
+        val item = (holder as RecyclerView.ViewHolder).getItem<T>() ?: return
+        listener.invoke(holder, item, pos)
+    }
+
+    private fun dispatchLongClick(v: View): Boolean {
+        val listener = onItemLongClick ?: return false
+        val holder = v.findContainingFusionHolder() as? LayoutHolder ?: return false
+        val pos = holder.bindingAdapterPosition
+        if (pos == RecyclerView.NO_POSITION) return false
+        val item = (holder as RecyclerView.ViewHolder).getItem<T>() ?: return false
+        return listener.invoke(holder, item, pos)
+    }
+
     final override fun onCreateViewHolder(parent: ViewGroup): LayoutHolder {
         val view = LayoutInflater.from(parent.context).inflate(layoutResId, parent, false)
         val holder = LayoutHolder(view)
+        holder.captureViews(viewIds, undeclaredViewLookups)
 
-        if (onItemClick != null) {
-            holder.itemView.setOnClickListener {
-                val pos = holder.bindingAdapterPosition
-                if (pos != RecyclerView.NO_POSITION) {
-                    val item = (holder as RecyclerView.ViewHolder).getItem<T>()
-                    if (item != null) onItemClick?.invoke(holder, item, pos)
-                }
-            }
-        }
-
-        if (onItemLongClick != null) {
-            holder.itemView.setOnLongClickListener {
-                val pos = holder.bindingAdapterPosition
-                if (pos != RecyclerView.NO_POSITION) {
-                    val item = (holder as RecyclerView.ViewHolder).getItem<T>()
-                    if (item != null) return@setOnLongClickListener onItemLongClick?.invoke(holder, item, pos) == true
-                }
-                false
-            }
-        }
+        if (onItemClick != null) holder.itemView.setOnClickListener(clickDispatcher)
+        if (onItemLongClick != null) holder.itemView.setOnLongClickListener(longClickDispatcher)
 
         onCreate(holder)
         return holder
@@ -60,17 +76,52 @@ abstract class LayoutDelegate<T : Any>(@param:LayoutRes private val layoutResId:
     open fun onCreate(holder: LayoutHolder) {}
 
     final override fun onBindViewHolder(holder: LayoutHolder, item: T, position: Int, payloads: MutableList<Any>) {
-        (holder as RecyclerView.ViewHolder).setItem(item)
+        holder.markBound(item, payloads.isEmpty())
         if (payloads.isNotEmpty()) {
             val handled = dispatchHandledPayloads(holder, item, payloads)
+            holder.payloadFellBack = !handled
             holder.onPayload(item, payloads, handled)
         } else {
-            holder.onBind(item)
+            val model = holder.renderModel
+            if (model != null && !holder.boundInFlingMode) {
+                holder.onBindPrepared(item, model)
+            } else {
+                holder.onBind(item, holder.boundInFlingMode)
+            }
         }
     }
 
     abstract fun LayoutHolder.onBind(item: T)
 
+    /**
+     * [Fling Mode] 带轻量模式标记的绑定入口，见 [BindingDelegate.onBind]。
+     */
+    open fun LayoutHolder.onBind(item: T, flingMode: Boolean) {
+        onBind(item)
+    }
+
+    override val supportsFlingMode: Boolean =
+        overridesMethod(LayoutDelegate::class.java, "onBind", LayoutHolder::class.java, Any::class.java, Boolean::class.javaPrimitiveType!!)
+
+    /**
+     * [Prepare] 使用预计算的渲染模型进行绑定，见 [BindingDelegate.onBindPrepared]。
+     */
+    open fun LayoutHolder.onBindPrepared(item: T, model: Any) {
+        onBind(item)
+    }
+
+    /**
+     * [Staged Binding] 延迟绑定阶段，见 [BindingDelegate.onBindDeferred]。
+     */
+    open fun LayoutHolder.onBindDeferred(item: T) {}
+
+    override val hasDeferredBind: Boolean =
+        overridesMethod(LayoutDelegate::class.java, "onBindDeferred", LayoutHolder::class.java, Any::class.java)
+
+    override fun dispatchDeferredBind(holder: LayoutHolder, item: T, position: Int) {
+        holder.onBindDeferred(item)
+    }
+
     open fun LayoutHolder.onPayload(item: T, payloads: List<Any>, handled: Boolean) {
         if (!handled) onBind(item)
     }
@@ -3,25 +3,58 @@ package com.fusion.adapter.delegate
 import android.util.SparseArray
 import android.view.View
 import androidx.annotation.IdRes
-import androidx.recyclerview.widget.RecyclerView
+import java.util.concurrent.atomic.LongAdder
 
 /**
  * [LayoutHolder]
  * A specialized ViewHolder optimized for LayoutRes-based delegates.
  *
- * Implements a lazy-caching mechanism (SparseArray) to ensure O(1) view lookup performance.
+ * View IDs declared at registration are resolved once in onCreateViewHolder into a flat array,
+ * so bind code can index them directly via [view]. Undeclared IDs fall back to a lazy
+ * SparseArray cache and are counted for diagnostics.
  */
-open class LayoutHolder(itemView: View) : RecyclerView.ViewHolder(itemView) {
+open class LayoutHolder(itemView: View) : FusionHolder(itemView) {
 
     private val cachedViews = SparseArray<View>()
 
+    private var declaredIds: IntArray = EMPTY_IDS
+    private var declaredViews: Array<View?> = EMPTY_VIEWS
+    private var undeclaredLookups: LongAdder? = null
+
+    /**
+     * Resolves all [ids] eagerly. Called by [LayoutDelegate] right after inflation.
+     */
+    internal fun captureViews(ids: IntArray, lookupCounter: LongAdder?) {
+        undeclaredLookups = lookupCounter
+        if (ids.isEmpty()) return
+        val views = arrayOfNulls<View>(ids.size)
+        for (i in ids.indices) {
+            views[i] = checkNotNull(itemView.findViewById(ids[i])) { "Fusion: Declared view with ID #${ids[i]} not found in layout." }
+        }
+        declaredIds = ids
+        declaredViews = views
+    }
+
+    /**
+     * Returns the view declared at [index] of the registration ID list. No lookup, no cache probe.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun <V : View> view(index: Int): V = declaredViews[index] as V
+
     /**
      * Finds a view by ID with caching.
+     * Declared IDs are served from the flat array; anything else is resolved lazily and counted.
      *
      * @throws IllegalStateException if the view ID is invalid.
      */
     @Suppress("UNCHECKED_CAST")
     fun <V : View> findView(@IdRes id: Int): V {
+        val ids = declaredIds
+        for (i in ids.indices) {
+            if (ids[i] == id) return declaredViews[i] as V
+        }
+
+        undeclaredLookups?.increment()
         var view = cachedViews.get(id)
         if (view == null) {
             view = itemView.findViewById(id)
@@ -31,4 +64,8 @@ open class LayoutHolder(itemView: View) : RecyclerView.ViewHolder(itemView) {
         return view as V
     }
 
-}
\ No newline at end of file
+    private companion object {
+        val EMPTY_IDS = IntArray(0)
+        val EMPTY_VIEWS = arrayOfNulls<View>(0)
+    }
+}
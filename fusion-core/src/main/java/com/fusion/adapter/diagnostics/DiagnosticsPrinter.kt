@@ -17,6 +17,7 @@ object DiagnosticsPrinter {
         sb.append(" Debug Mode: ${diag.isDebug}\n")
         sb.append(" Total Items: ${diag.totalItems}\n")
         sb.append(" Registered Delegates: ${diag.registeredDelegatesCount}\n")
+        sb.append(" Memory Released: ~${diag.memoryReleasedBytes / 1024}KB\n")
         sb.append("----------------------------------------------------------------------------------------------------\n")
         sb.append(String.format("%-10s | %-30s | %-20s | %-6s | %-6s | %-10s\n", "ViewType", "Key", "Delegate", "Create", "Bind", "Avg Create"))
         sb.append("----------------------------------------------------------------------------------------------------\n")
@@ -30,6 +31,24 @@ object DiagnosticsPrinter {
                 d.viewType, key, delegate, d.createCount, d.bindCount, d.avgCreateTimeMs
             ))
         }
+        diag.delegates.filter { it.fullBindLatency.samples > 0 || it.payloadBindLatency.samples > 0 }.forEach { d ->
+            val full = d.fullBindLatency
+            val payload = d.payloadBindLatency
+            sb.append(String.format(
+                " Bind: %s full p50/p95/p99 = %.3f/%.3f/%.3f ms (n=%d), payload = %.3f/%.3f/%.3f ms (n=%d)\n",
+                d.delegateClass, full.p50Ms, full.p95Ms, full.p99Ms, full.samples,
+                payload.p50Ms, payload.p95Ms, payload.p99Ms, payload.samples
+            ))
+        }
+        diag.delegates.filter { it.skippedBindCount > 0 }.forEach { d ->
+            sb.append(" Skipped: ${d.delegateClass} ${d.skippedBindCount} redundant binds\n")
+        }
+        diag.delegates.filter { it.retainedHolders > 0 }.forEach { d ->
+            sb.append(" Retained: ${d.delegateClass} x${d.retainedHolders} (~${d.retainedHolders * d.estimatedHolderBytes / 1024}KB)\n")
+        }
+        diag.delegates.filter { it.undeclaredViewLookups > 0 }.forEach { d ->
+            sb.append(" Hint: ${d.delegateClass} performed ${d.undeclaredViewLookups} lookups of undeclared view IDs.\n")
+        }
         sb.append("====================================================================================================\n")
         FusionLogger.print(Log.INFO, tag, sb.toString())
     }
@@ -9,7 +9,9 @@ data class FusionDiagnostics(
     val isDebug: Boolean,
     val totalItems: Int,
     val registeredDelegatesCount: Int,
-    val delegates: List<DelegateDiagnostic>
+    val delegates: List<DelegateDiagnostic>,
+    /** Estimated bytes released by memory-pressure trimming since the adapter was created. */
+    val memoryReleasedBytes: Long = 0
 )
 
 /**
@@ -23,5 +25,33 @@ data class DelegateDiagnostic(
     val createCount: Long,
     val bindCount: Long,
     val avgCreateTimeMs: Double,
-    val totalCreateTimeMs: Double
+    val totalCreateTimeMs: Double,
+    /** LayoutHolder.findView calls for IDs not declared at registration (LayoutDelegate only). */
+    val undeclaredViewLookups: Long = 0,
+    /** Holders currently retained for this view type (on screen, pooled, or pre-inflated). */
+    val retainedHolders: Int = 0,
+    /** Estimated footprint of a single holder of this view type, in bytes. */
+    val estimatedHolderBytes: Long = 0,
+    /** Binds skipped because the holder was already bound to the same key, revision and position. */
+    val skippedBindCount: Long = 0,
+    /** Latency of full binds (no payload). Sampled in release, see FusionConfig.bindLatencySampleRate. */
+    val fullBindLatency: BindLatency = BindLatency.EMPTY,
+    /** Latency of partial binds driven by payloads. */
+    val payloadBindLatency: BindLatency = BindLatency.EMPTY
 )
+
+/**
+ * [BindLatency]
+ * Bind duration percentiles for one view type. Values are histogram bucket upper bounds (< 25% error).
+ */
+data class BindLatency(
+    val samples: Long,
+    val p50Ms: Double,
+    val p95Ms: Double,
+    val p99Ms: Double
+) {
+    companion object {
+        @JvmField
+        val EMPTY = BindLatency(0, 0.0, 0.0, 0.0)
+    }
+}
@@ -6,4 +6,18 @@ import androidx.viewbinding.ViewBinding
  * [BindingDefinitionScope]
  */
 @FusionDsl
-class BindingDefinitionScope<T : Any, VB : ViewBinding> @PublishedApi internal constructor() : ItemDefinitionScope<T, VB>()
+class BindingDefinitionScope<T : Any, VB : ViewBinding> @PublishedApi internal constructor() : ItemDefinitionScope<T, VB>() {
+
+    /**
+     * 开启异步 inflate：后台线程预先创建最多 [capacity] 个 Binding，onCreateViewHolder 时直接取用。
+     * 队列为空或布局不支持后台 inflate（如 View 构造中创建 Handler）时自动回退为同步 inflate。
+     */
+    fun asyncInflate(capacity: Int = DEFAULT_ASYNC_CAPACITY) {
+        require(capacity > 0) { "Fusion: asyncInflate capacity must be positive, was $capacity" }
+        config.asyncInflateCapacity = capacity
+    }
+
+    private companion object {
+        const val DEFAULT_ASYNC_CAPACITY = 4
+    }
+}
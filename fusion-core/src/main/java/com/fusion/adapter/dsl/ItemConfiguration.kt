@@ -9,10 +9,17 @@ class ItemConfiguration<T : Any, V : Any> {
     var itemKey: ((T) -> Any?)? = null
     var onCreate: (V.() -> Unit)? = null
     var onBind: (V.(item: T, position: Int) -> Unit)? = null
+    var prepare: ((item: T) -> Any?)? = null
+    var onBindPrepared: (V.(item: T, model: Any) -> Unit)? = null
+    var onBindFling: (V.(item: T, position: Int) -> Unit)? = null
+    var onBindDeferred: (V.(item: T, position: Int) -> Unit)? = null
     var onPayload: (V.(item: T, position: Int, payloads: List<Any>) -> Unit)? = null
     var onClick: (V.(item: T, position: Int) -> Unit)? = null
     var onLongClick: (V.(item: T, position: Int) -> Boolean)? = null
     var clickDebounce: Long? = null
+    var asyncInflateCapacity: Int = 0
+    var revision: ((T) -> Any?)? = null
+    var skipRedundantBinds: Boolean = true
     var spanSize: (item: T, position: Int, scope: SpanSizeScope) -> Int = { _, _, _ -> 1 }
 
     val observers = ArrayList<PropertyObserver<T>>()
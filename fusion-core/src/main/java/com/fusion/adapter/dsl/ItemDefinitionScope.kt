@@ -15,9 +15,27 @@ abstract class ItemDefinitionScope<T : Any, V : Any> @PublishedApi internal cons
     fun getConfiguration(): ItemConfiguration<T, V> = config
 
     fun stableId(block: (item: T) -> Any?) { config.itemKey = block }
+
+    /** 内容版本号：Key 与版本都未变化时跳过重复的 onBind。未配置（或返回 null）时总是重新绑定。 */
+    fun revision(block: (item: T) -> Any?) { config.revision = block }
+
+    /** 关闭冗余绑定跳过（数据会被原地修改时使用）。 */
+    fun alwaysRebind() { config.skipRedundantBinds = false }
     fun onCreate(block: V.() -> Unit) { config.onCreate = block }
     fun onBind(block: V.(item: T) -> Unit) { config.onBind = { item, _ -> block(item) } }
     fun onBindIndexed(block: V.(item: T, position: Int) -> Unit) { config.onBind = block }
+    /** 后台预计算渲染模型（运行在 FusionExecutor，不要访问 View），按 stableId + revision 缓存。 */
+    fun <M : Any> prepare(block: (item: T) -> M?) { config.prepare = block }
+
+    /** 使用 prepare 的结果绑定；未配置 prepare 或结果为 null 时回落到 onBind。 */
+    @Suppress("UNCHECKED_CAST")
+    fun <M : Any> onBindPrepared(block: V.(item: T, model: M) -> Unit) { config.onBindPrepared = { item, model -> block(item, model as M) } }
+
+    /** 惯性滑动时的轻量绑定；滚动停止后会自动以 onBind 重新完整绑定可见项。 */
+    fun onBindFling(block: V.(item: T) -> Unit) { config.onBindFling = { item, _ -> block(item) } }
+
+    /** 延迟绑定阶段：当前帧之后（或滚动停止后）执行，Holder 被回收 / 重新绑定时自动取消。 */
+    fun onBindDeferred(block: V.(item: T) -> Unit) { config.onBindDeferred = { item, _ -> block(item) } }
     fun onPayload(block: V.(item: T, payloads: List<Any>) -> Unit) { config.onPayload = { item, _, payloads -> block(item, payloads) } }
     
     fun <P> onPayload(prop1: KProperty1<T, P>, action: V.(P) -> Unit) {
@@ -45,6 +63,40 @@ abstract class ItemDefinitionScope<T : Any, V : Any> @PublishedApi internal cons
         config.observers.add(PropertyObserver6({ prop1.get(it) }, { prop2.get(it) }, { prop3.get(it) }, { prop4.get(it) }, { prop5.get(it) }, { prop6.get(it) }, action as Any.(P1, P2, P3, P4, P5, P6) -> Unit))
     }
 
+    // --- Primitive Payloads: getter 与 action 均被内联，比较与分发不装箱，也不经过 KProperty 反射 ---
+
+    @Suppress("UNCHECKED_CAST")
+    inline fun onPayloadInt(crossinline getter: (item: T) -> Int, crossinline action: V.(Int) -> Unit) {
+        config.observers.add(object : IntPropertyObserver<T>() {
+            override fun get(item: T): Int = getter(item)
+            override fun apply(receiver: Any, value: Int) { (receiver as V).action(value) }
+        })
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    inline fun onPayloadLong(crossinline getter: (item: T) -> Long, crossinline action: V.(Long) -> Unit) {
+        config.observers.add(object : LongPropertyObserver<T>() {
+            override fun get(item: T): Long = getter(item)
+            override fun apply(receiver: Any, value: Long) { (receiver as V).action(value) }
+        })
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    inline fun onPayloadBoolean(crossinline getter: (item: T) -> Boolean, crossinline action: V.(Boolean) -> Unit) {
+        config.observers.add(object : BooleanPropertyObserver<T>() {
+            override fun get(item: T): Boolean = getter(item)
+            override fun apply(receiver: Any, value: Boolean) { (receiver as V).action(value) }
+        })
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    inline fun onPayloadFloat(crossinline getter: (item: T) -> Float, crossinline action: V.(Float) -> Unit) {
+        config.observers.add(object : FloatPropertyObserver<T>() {
+            override fun get(item: T): Float = getter(item)
+            override fun apply(receiver: Any, value: Float) { (receiver as V).action(value) }
+        })
+    }
+
     fun onItemClick(debounceMs: Long? = null, block: V.(item: T) -> Unit) { config.clickDebounce = debounceMs; config.onClick = { item, _ -> block(item) } }
     fun onLongClick(block: V.(item: T) -> Boolean) { config.onLongClick = { item, _ -> block(item) } }
     fun spanSize(block: SpanSizeScope.(item: T, position: Int) -> Int) { config.spanSize = { item, pos, scope -> scope.block(item, pos) } }
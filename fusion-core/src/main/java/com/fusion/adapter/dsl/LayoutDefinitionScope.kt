@@ -1,5 +1,6 @@
 package com.fusion.adapter.dsl
 
+import androidx.annotation.IdRes
 import com.fusion.adapter.delegate.LayoutHolder
 
 /**
@@ -7,4 +8,13 @@ import com.fusion.adapter.delegate.LayoutHolder
  * 专用于 Layout Resource ID 模式的配置域。
  */
 @FusionDsl
-class LayoutDefinitionScope<T : Any> @PublishedApi internal constructor() : ItemDefinitionScope<T, LayoutHolder>()
+class LayoutDefinitionScope<T : Any> @PublishedApi internal constructor() : ItemDefinitionScope<T, LayoutHolder>() {
+
+    @PublishedApi internal var viewIds: IntArray = IntArray(0)
+
+    /**
+     * 声明 onBind 中会用到的 View ID。
+     * 这些 View 在 onCreateViewHolder 时一次性解析，绑定时可通过 [LayoutHolder.view] 按下标直接访问。
+     */
+    fun views(@IdRes vararg ids: Int) { viewIds = ids }
+}
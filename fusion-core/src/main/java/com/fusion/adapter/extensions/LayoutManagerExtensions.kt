@@ -12,13 +12,124 @@ fun RecyclerView.setupGridSupport(
     getDelegate: (Any) -> FusionDelegate<Any, *>?
 ) {
     val lm = layoutManager as? GridLayoutManager ?: return
-    lm.spanSizeLookup = object : GridLayoutManager.SpanSizeLookup() {
-        override fun getSpanSize(position: Int): Int {
-            val item = getItem(position) ?: return 1
-            val delegate = getDelegate(item) ?: return 1
-            return delegate.resolveSpanSize(item, position, lm.spanCount)
+    val current = lm.spanSizeLookup
+    if (current is CachedSpanSizeLookup && current.adapter === adapter) {
+        current.attach()
+        return
+    }
+    (current as? CachedSpanSizeLookup)?.release()
+    lm.spanSizeLookup = CachedSpanSizeLookup(lm, adapter, getItem, getDelegate)
+}
+
+/**
+ * [CachedSpanSizeLookup]
+ * 按位置缓存 Span 大小，并开启 GridLayoutManager 的 span index / span group index 缓存，
+ * 跳转时不再需要对每个位置重新查询 Delegate。
+ *
+ * FusionAdapter / FusionListAdapter 的异步提交在后台为整份列表预计算 Span 大小，提交完成后通过 [seed] 一次写入；
+ * 之后由 Adapter 的 notify 回调精确失效：变更区间置为未知，插入 / 删除 / 移动从受影响的最小位置起置为未知
+ * （spanSize 可能依赖 position），下一次查询时按需重算。spanCount 变化时整体失效。
+ */
+internal class CachedSpanSizeLookup(
+    private val lm: GridLayoutManager,
+    @JvmField val adapter: RecyclerView.Adapter<*>,
+    private val getItem: (Int) -> Any?,
+    private val getDelegate: (Any) -> FusionDelegate<Any, *>?
+) : GridLayoutManager.SpanSizeLookup() {
+
+    private var sizes = IntArray(0)
+    private var cachedSpanCount = lm.spanCount
+
+    private val observer = object : RecyclerView.AdapterDataObserver() {
+        override fun onChanged() = invalidateFrom(0)
+        override fun onItemRangeChanged(positionStart: Int, itemCount: Int) = invalidateRange(positionStart, positionStart + itemCount)
+        override fun onItemRangeChanged(positionStart: Int, itemCount: Int, payload: Any?) = invalidateRange(positionStart, positionStart + itemCount)
+        override fun onItemRangeInserted(positionStart: Int, itemCount: Int) = invalidateFrom(positionStart)
+        override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) = invalidateFrom(positionStart)
+        override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) = invalidateFrom(minOf(fromPosition, toPosition))
+    }
+
+    private var observing = false
+
+    init {
+        isSpanIndexCacheEnabled = true
+        isSpanGroupIndexCacheEnabled = true
+        attach()
+    }
+
+    override fun getSpanSize(position: Int): Int {
+        val spanCount = lm.spanCount
+        if (spanCount != cachedSpanCount) {
+            cachedSpanCount = spanCount
+            sizes.fill(UNKNOWN)
+        }
+        if (position in sizes.indices) {
+            val cached = sizes[position]
+            if (cached != UNKNOWN) return cached
+        }
+
+        val item = getItem(position) ?: return 1
+        val size = getDelegate(item)?.resolveSpanSize(item, position, spanCount) ?: 1
+        if (position >= sizes.size) ensureCapacity(maxOf(position + 1, adapter.itemCount))
+        sizes[position] = size
+        return size
+    }
+
+    /**
+     * 写入提交阶段预计算的整份 Span 大小。列数或条目数已与当前不一致（计算期间发生了变化）时丢弃，仍按需计算。
+     */
+    fun seed(precomputed: IntArray, spanCount: Int) {
+        if (!observing || spanCount != lm.spanCount || precomputed.size != adapter.itemCount) return
+        sizes = precomputed
+        cachedSpanCount = spanCount
+        invalidateSpanIndexCache()
+        invalidateSpanGroupIndexCache()
+    }
+
+    /** 内存紧张时丢弃缓存数组，下次查询按需重建。 */
+    fun trim() {
+        sizes = IntArray(0)
+        invalidateSpanIndexCache()
+        invalidateSpanGroupIndexCache()
+    }
+
+    fun attach() {
+        if (observing) return
+        observing = true
+        // 未监听期间的变化无从得知，重新监听时整体失效
+        sizes.fill(UNKNOWN)
+        adapter.registerAdapterDataObserver(observer)
+    }
+
+    fun release() {
+        if (!observing) return
+        observing = false
+        adapter.unregisterAdapterDataObserver(observer)
+    }
+
+    private fun invalidateRange(start: Int, end: Int) {
+        val from = start.coerceIn(0, sizes.size)
+        val to = end.coerceIn(from, sizes.size)
+        sizes.fill(UNKNOWN, from, to)
+    }
+
+    private fun invalidateFrom(start: Int) {
+        ensureCapacity(adapter.itemCount)
+        invalidateRange(start, sizes.size)
+    }
+
+    private fun ensureCapacity(count: Int) {
+        if (count <= sizes.size) return
+        val old = sizes
+        sizes = IntArray(count).also {
+            it.fill(UNKNOWN)
+            System.arraycopy(old, 0, it, 0, old.size)
         }
     }
+
+    private companion object {
+        const val UNKNOWN = -1
+    }
 }
 
 fun RecyclerView.ViewHolder.setupStaggeredSupport(
@@ -27,5 +138,14 @@ fun RecyclerView.ViewHolder.setupStaggeredSupport(
 ) {
     val lp = itemView.layoutParams as? StaggeredGridLayoutManager.LayoutParams ?: return
     val delegate = getDelegate(item) ?: return
-    lp.isFullSpan = delegate.resolveFullSpan(item)
+    val fullSpan = delegate.resolveFullSpan(item)
+    if (lp.isFullSpan != fullSpan) lp.isFullSpan = fullSpan
+}
+
+/**
+ * 应用提交阶段预计算好的整行标记；与当前 LayoutParams 一致时不做任何修改，避免额外的布局。
+ */
+internal fun RecyclerView.ViewHolder.applyFullSpan(fullSpan: Boolean) {
+    val lp = itemView.layoutParams as? StaggeredGridLayoutManager.LayoutParams ?: return
+    if (lp.isFullSpan != fullSpan) lp.isFullSpan = fullSpan
 }
\ No newline at end of file
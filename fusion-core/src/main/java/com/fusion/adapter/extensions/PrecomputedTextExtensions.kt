@@ -0,0 +1,111 @@
+package com.fusion.adapter.extensions
+
+import android.widget.TextView
+import androidx.annotation.MainThread
+import androidx.annotation.WorkerThread
+import androidx.core.text.PrecomputedTextCompat
+import androidx.core.widget.TextViewCompat
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * [TextPrecomputer]
+ * 文本密集型 Delegate 的排版预计算助手，配合 prepare / onBindPrepared 使用：
+ *
+ * ```
+ * val texts = TextPrecomputer<Message>({ it.content }, { it.quote })
+ * adapter.register<Message, ItemMessageBinding>(ItemMessageBinding::inflate) {
+ *     onCreate { texts.capture(tvContent, tvQuote) }
+ *     prepare { texts.precompute(it) }
+ *     onBindPrepared<PrecomputedTexts> { item, model -> texts.apply(item, model, tvContent, tvQuote) }
+ * }
+ * ```
+ *
+ * onCreate 时在主线程记录每个 TextView 的 TextMetricsParams；提交阶段在后台线程按这些参数
+ * 生成 [PrecomputedTextCompat]；绑定时只比较预计算结果是否基于当前记录的参数，不再读取 TextView 的参数，
+ * 不一致时回落到普通 setText。绑定中修改了字体 / 字号等样式时，需要重新调用 [capture]。
+ */
+class TextPrecomputer<T : Any>(private vararg val texts: (item: T) -> CharSequence?) {
+
+    private val params = AtomicReferenceArray<PrecomputedTextCompat.Params>(texts.size)
+
+    /**
+     * 记录各 TextView 的排版参数，顺序与构造参数一致。每次创建时刷新；参数未变化时保留原对象，
+     * 已按它预计算的结果继续有效。
+     */
+    @MainThread
+    fun capture(vararg views: TextView) {
+        for (i in 0 until minOf(views.size, texts.size)) {
+            val captured = TextViewCompat.getTextMetricsParams(views[i])
+            if (params.get(i) != captured) params.set(i, captured)
+        }
+    }
+
+    /**
+     * 在后台线程预计算所有文本。尚未 [capture]（还没有创建过 Holder）时返回 null，交由绑定阶段处理。
+     */
+    @WorkerThread
+    fun precompute(item: T): PrecomputedTexts? {
+        var captured = false
+        val result = arrayOfNulls<PrecomputedTextCompat>(texts.size)
+        for (i in texts.indices) {
+            val p = params.get(i) ?: continue
+            captured = true
+            val text = texts[i](item)
+            if (!text.isNullOrEmpty()) result[i] = PrecomputedTextCompat.create(text, p)
+        }
+        return if (captured) PrecomputedTexts(result) else null
+    }
+
+    /**
+     * 绑定预计算结果。[model] 不是 [PrecomputedTexts]、某项缺失或排版参数不一致时，对该 TextView 使用普通 setText。
+     */
+    @MainThread
+    fun apply(item: T, model: Any?, vararg views: TextView) {
+        val precomputed = (model as? PrecomputedTexts)?.texts
+        for (i in 0 until minOf(views.size, texts.size)) {
+            applyAt(i, item, precomputed, views[i])
+        }
+    }
+
+    // 常见的 1~3 个 TextView 走定长重载，避免每次绑定分配 vararg 数组
+
+    @MainThread
+    fun apply(item: T, model: Any?, view: TextView) {
+        applyAt(0, item, (model as? PrecomputedTexts)?.texts, view)
+    }
+
+    @MainThread
+    fun apply(item: T, model: Any?, view1: TextView, view2: TextView) {
+        val precomputed = (model as? PrecomputedTexts)?.texts
+        applyAt(0, item, precomputed, view1)
+        applyAt(1, item, precomputed, view2)
+    }
+
+    @MainThread
+    fun apply(item: T, model: Any?, view1: TextView, view2: TextView, view3: TextView) {
+        val precomputed = (model as? PrecomputedTexts)?.texts
+        applyAt(0, item, precomputed, view1)
+        applyAt(1, item, precomputed, view2)
+        applyAt(2, item, precomputed, view3)
+    }
+
+    private fun applyAt(i: Int, item: T, precomputed: Array<PrecomputedTextCompat?>?, view: TextView) {
+        if (i >= texts.size) return
+        val text = precomputed?.getOrNull(i)
+        if (text != null && text.params === params.get(i)) {
+            try {
+                TextViewCompat.setPrecomputedText(view, text)
+                return
+            } catch (e: IllegalArgumentException) {
+                // 样式在 capture 之后被修改，参数已不匹配
+            }
+        }
+        view.text = texts[i](item)
+    }
+}
+
+/**
+ * [PrecomputedTexts]
+ * [TextPrecomputer.precompute] 的结果，作为 prepare 的渲染模型缓存。
+ */
+class PrecomputedTexts internal constructor(internal val texts: Array<PrecomputedTextCompat?>)
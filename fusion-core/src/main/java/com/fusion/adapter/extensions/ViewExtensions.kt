@@ -3,6 +3,7 @@ package com.fusion.adapter.extensions
 import android.view.View
 import androidx.recyclerview.widget.RecyclerView
 import com.fusion.adapter.core.R
+import com.fusion.adapter.delegate.FusionHolder
 
 /**
  * [click]
@@ -22,21 +23,48 @@ internal fun View.click(debounce: Long?, block: (View) -> Unit) {
     })
 }
 
+/**
+ * [findContainingFusionHolder]
+ * 供共享点击监听器使用：由 itemView 反查其所属的 ViewHolder。
+ * View 已脱离 RecyclerView（如正在执行移除动画）时返回 null。
+ */
+internal fun View.findContainingFusionHolder(): RecyclerView.ViewHolder? {
+    val recyclerView = parent as? RecyclerView ?: return null
+    return recyclerView.getChildViewHolder(this)
+}
+
 /**
  * [getItem]
- * 核心语义：从 View 的 Tag 中直接提取关联的数据项。
- * 遵循 AndroidX O(1) 获取规范。
+ * 核心语义：提取 View 关联的数据项。
+ * Fusion Holder 的 itemView 在创建时记录了所属 Holder，无论是否挂载都读写 Holder 字段；其它 View 使用 View 的 Tag。
  */
 @Suppress("UNCHECKED_CAST")
-fun <T> View.getItem(): T? = getTag(R.id.fusion_item_tag) as? T
+fun <T> View.getItem(): T? {
+    val holder = getTag(R.id.fusion_holder_tag) as? FusionHolder
+    if (holder != null) return holder.boundItem as? T
+    return getTag(R.id.fusion_item_tag) as? T
+}
 
 fun View.setItem(item: Any?) {
-    setTag(R.id.fusion_item_tag, item)
+    val holder = getTag(R.id.fusion_holder_tag) as? FusionHolder
+    if (holder != null) {
+        holder.boundItem = item
+    } else {
+        setTag(R.id.fusion_item_tag, item)
+    }
 }
 
-fun <T> RecyclerView.ViewHolder.getItem(): T? = itemView.getItem()
+@Suppress("UNCHECKED_CAST")
+fun <T> RecyclerView.ViewHolder.getItem(): T? {
+    if (this is FusionHolder) return boundItem as? T
+    return itemView.getTag(R.id.fusion_item_tag) as? T
+}
 
 fun RecyclerView.ViewHolder.setItem(item: Any?) {
-    itemView.setItem(item)
+    if (this is FusionHolder) {
+        boundItem = item
+    } else {
+        itemView.setTag(R.id.fusion_item_tag, item)
+    }
 }
 
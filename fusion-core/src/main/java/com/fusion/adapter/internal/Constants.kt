@@ -1,3 +1,7 @@
 package com.fusion.adapter.internal
 
 internal const val DEFAULT_DEBOUNCE_INTERVAL = 300L
+
+internal const val DEFAULT_FLING_MODE_VELOCITY_DP = 3000
+
+internal const val DEFAULT_RENDER_MODEL_CACHE_SIZE = 256
@@ -0,0 +1,38 @@
+package com.fusion.adapter.internal.diagnostics
+
+import android.view.View
+import android.view.ViewGroup
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * [HolderFootprint]
+ * 按 ViewType 估算单个 Holder 的常驻内存。
+ *
+ * 每种 ViewType 只在第一次创建时遍历一次 View 树，按 View 数量 × 经验单价估算，
+ * 不追求精确，只用于内存回收时给出量级。
+ */
+internal class HolderFootprint {
+
+    private val bytesPerHolder = ConcurrentHashMap<Int, Long>()
+
+    fun recordIfAbsent(viewType: Int, itemView: View?) {
+        if (itemView == null || bytesPerHolder.containsKey(viewType)) return
+        bytesPerHolder[viewType] = countViews(itemView) * BYTES_PER_VIEW
+    }
+
+    fun estimate(viewType: Int): Long = bytesPerHolder[viewType] ?: 0L
+
+    private fun countViews(view: View): Long {
+        if (view !is ViewGroup) return 1
+        var count = 1L
+        for (i in 0 until view.childCount) {
+            count += countViews(view.getChildAt(i))
+        }
+        return count
+    }
+
+    private companion object {
+        /** View 对象本身 + LayoutParams + RenderNode / 背景等附属状态的经验值。 */
+        const val BYTES_PER_VIEW = 1024L
+    }
+}
@@ -0,0 +1,64 @@
+package com.fusion.adapter.internal.diagnostics
+
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * [LatencyHistogram]
+ * 无锁对数直方图（纳秒）。
+ *
+ * 每个 2 的幂区间再细分为 4 个子桶，相对误差 < 25%，256 个 AtomicLong 覆盖全部 Long 范围。
+ * 写入只有一次 CAS 自增，可在 Release 中配合采样常开。
+ */
+internal class LatencyHistogram {
+
+    private val buckets = AtomicLongArray(BUCKET_COUNT)
+
+    fun record(nanos: Long) {
+        buckets.incrementAndGet(indexOf(if (nanos < 0) 0 else nanos))
+    }
+
+    fun count(): Long {
+        var total = 0L
+        for (i in 0 until BUCKET_COUNT) total += buckets.get(i)
+        return total
+    }
+
+    /**
+     * 返回分位数 [quantile]（0..1）所在桶的上界，单位纳秒；无样本时返回 0。
+     */
+    fun percentile(quantile: Double): Long {
+        val snapshot = LongArray(BUCKET_COUNT) { buckets.get(it) }
+        val total = snapshot.sum()
+        if (total == 0L) return 0L
+        val target = Math.ceil(total * quantile).toLong().coerceAtLeast(1L)
+        var cumulative = 0L
+        for (i in 0 until BUCKET_COUNT) {
+            cumulative += snapshot[i]
+            if (cumulative >= target) return upperBoundOf(i)
+        }
+        return upperBoundOf(BUCKET_COUNT - 1)
+    }
+
+    companion object {
+        private const val SUB_BITS = 2
+        private const val SUB_COUNT = 1 shl SUB_BITS
+        private const val BUCKET_COUNT = 64 * SUB_COUNT
+
+        internal fun indexOf(value: Long): Int {
+            if (value < SUB_COUNT) return value.toInt()
+            val exp = 63 - java.lang.Long.numberOfLeadingZeros(value)
+            val sub = (value ushr (exp - SUB_BITS)).toInt() and (SUB_COUNT - 1)
+            return exp * SUB_COUNT + sub
+        }
+
+        internal fun upperBoundOf(index: Int): Long {
+            if (index < SUB_COUNT) return index.toLong()
+            val exp = index / SUB_COUNT
+            val sub = index % SUB_COUNT
+            // exp < SUB_BITS 的桶不会被写入（小于 SUB_COUNT 的值直接落在前 SUB_COUNT 个桶）
+            if (exp < SUB_BITS) return (SUB_COUNT - 1).toLong()
+            if (exp >= 62) return Long.MAX_VALUE
+            return ((SUB_COUNT + sub + 1).toLong() shl (exp - SUB_BITS)) - 1
+        }
+    }
+}
@@ -12,6 +12,9 @@ internal class PerformanceMonitor {
 
     private val createStats = ConcurrentHashMap<Int, TimeAccumulator>()
     private val bindCounts = ConcurrentHashMap<Int, LongAdder>()
+    private val skippedBindCounts = ConcurrentHashMap<Int, LongAdder>()
+    private val fullBindLatency = ConcurrentHashMap<Int, LatencyHistogram>()
+    private val payloadBindLatency = ConcurrentHashMap<Int, LatencyHistogram>()
 
     fun recordCreate(viewType: Int, durationNanos: Long) {
         createStats.computeIfAbsent(viewType) { TimeAccumulator() }.add(durationNanos)
@@ -21,19 +24,44 @@ internal class PerformanceMonitor {
         bindCounts.computeIfAbsent(viewType) { LongAdder() }.increment()
     }
 
+    fun recordSkippedBind(viewType: Int) {
+        skippedBindCounts.computeIfAbsent(viewType) { LongAdder() }.increment()
+    }
+
+    fun recordBindLatency(viewType: Int, isPayload: Boolean, durationNanos: Long) {
+        val table = if (isPayload) payloadBindLatency else fullBindLatency
+        table.computeIfAbsent(viewType) { LatencyHistogram() }.record(durationNanos)
+    }
+
+    fun getBindLatency(viewType: Int, isPayload: Boolean): LatencyHistogram? =
+        (if (isPayload) payloadBindLatency else fullBindLatency)[viewType]
+
     fun getStats(viewType: Int): StatSnapshot {
         val create = createStats[viewType]
         val bind = bindCounts[viewType]
+        val skipped = skippedBindCounts[viewType]
         return StatSnapshot(
             createCount = create?.count?.sum() ?: 0,
             totalCreateTimeNs = create?.totalNanos?.sum() ?: 0,
-            bindCount = bind?.sum() ?: 0
+            bindCount = bind?.sum() ?: 0,
+            skippedBindCount = skipped?.sum() ?: 0
         )
     }
 
+    /**
+     * 内存压力下只释放按 ViewType 增长的创建 / 绑定计数；延迟直方图与跳过计数是定位问题的依据，予以保留。
+     */
+    fun trimCounters() {
+        createStats.clear()
+        bindCounts.clear()
+    }
+
     fun reset() {
         createStats.clear()
         bindCounts.clear()
+        skippedBindCounts.clear()
+        fullBindLatency.clear()
+        payloadBindLatency.clear()
     }
 
     private class TimeAccumulator {
@@ -49,7 +77,8 @@ internal class PerformanceMonitor {
     data class StatSnapshot(
         val createCount: Long,
         val totalCreateTimeNs: Long,
-        val bindCount: Long
+        val bindCount: Long,
+        val skippedBindCount: Long
     ) {
         val avgCreateTimeNs: Double
             get() = if (createCount > 0) totalCreateTimeNs.toDouble() / createCount else 0.0
@@ -0,0 +1,34 @@
+package com.fusion.adapter.internal.diff
+
+/**
+ * [ChangeMask]
+ * 属性级局部刷新的 Payload：每个注册的 [PropertyObserver] 占一位，一次 Diff 的变化集合就是一个 Long。
+ *
+ * 低 8 位组合以及所有单 bit 掩码都使用预分配实例，常见场景（≤ 8 个观察者，或一次只变一个属性）
+ * 在 Diff 与 Bind 两端都不产生分配。RecyclerView 合并后的多个 Payload 在分发前按位或。
+ */
+internal class ChangeMask private constructor(@JvmField val bits: Long) {
+
+    override fun equals(other: Any?): Boolean = other is ChangeMask && other.bits == bits
+
+    override fun hashCode(): Int = bits.hashCode()
+
+    override fun toString(): String = "ChangeMask(0x${java.lang.Long.toHexString(bits)})"
+
+    companion object {
+        /** 单个 Delegate 可注册的观察者上限（Long 的位数）。 */
+        const val MAX_OBSERVERS = 64
+
+        private const val SMALL_CACHE_SIZE = 256
+
+        private val SMALL = Array(SMALL_CACHE_SIZE) { ChangeMask(it.toLong()) }
+        private val SINGLE = Array(MAX_OBSERVERS) { ChangeMask(1L shl it) }
+
+        fun of(bits: Long): ChangeMask? {
+            if (bits == 0L) return null
+            if (bits in 0 until SMALL_CACHE_SIZE) return SMALL[bits.toInt()]
+            if (bits and (bits - 1) == 0L) return SINGLE[java.lang.Long.numberOfTrailingZeros(bits)]
+            return ChangeMask(bits)
+        }
+    }
+}
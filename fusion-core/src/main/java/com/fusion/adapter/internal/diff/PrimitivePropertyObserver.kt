@@ -0,0 +1,40 @@
+package com.fusion.adapter.internal.diff
+
+/**
+ * [PrimitivePropertyObserver]
+ * Int / Long / Boolean / Float 专用观察者：取值、比较、分发全程使用原始类型，不产生装箱。
+ * 由 DSL 的 onPayloadInt 等 inline 函数或 JavaDelegate.bindPayloadInt 等方法生成子类。
+ */
+abstract class IntPropertyObserver<T> : PropertyObserver<T> {
+    abstract fun get(item: T): Int
+    abstract fun apply(receiver: Any, value: Int)
+
+    final override fun checkChange(oldItem: T, newItem: T): Any? = if (get(oldItem) != get(newItem)) this else null
+    final override fun execute(receiver: Any, item: T) = apply(receiver, get(item))
+}
+
+abstract class LongPropertyObserver<T> : PropertyObserver<T> {
+    abstract fun get(item: T): Long
+    abstract fun apply(receiver: Any, value: Long)
+
+    final override fun checkChange(oldItem: T, newItem: T): Any? = if (get(oldItem) != get(newItem)) this else null
+    final override fun execute(receiver: Any, item: T) = apply(receiver, get(item))
+}
+
+abstract class BooleanPropertyObserver<T> : PropertyObserver<T> {
+    abstract fun get(item: T): Boolean
+    abstract fun apply(receiver: Any, value: Boolean)
+
+    final override fun checkChange(oldItem: T, newItem: T): Any? = if (get(oldItem) != get(newItem)) this else null
+    final override fun execute(receiver: Any, item: T) = apply(receiver, get(item))
+}
+
+abstract class FloatPropertyObserver<T> : PropertyObserver<T> {
+    abstract fun get(item: T): Float
+    abstract fun apply(receiver: Any, value: Float)
+
+    // 按位比较，与 equals 语义一致（NaN 视为未变化）
+    final override fun checkChange(oldItem: T, newItem: T): Any? =
+        if (java.lang.Float.floatToIntBits(get(oldItem)) != java.lang.Float.floatToIntBits(get(newItem))) this else null
+    final override fun execute(receiver: Any, item: T) = apply(receiver, get(item))
+}
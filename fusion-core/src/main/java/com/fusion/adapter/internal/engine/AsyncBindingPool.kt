@@ -0,0 +1,106 @@
+package com.fusion.adapter.internal.engine
+
+import android.content.Context
+import android.view.LayoutInflater
+import android.view.ViewGroup
+import androidx.viewbinding.ViewBinding
+import com.fusion.adapter.log.FusionLogger
+import java.lang.ref.WeakReference
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * [AsyncBindingPool]
+ * 单个 DSL Delegate 的异步 ViewBinding 预加载池。
+ *
+ * 后台线程提前 inflate Binding 放入有界队列，onCreateViewHolder 时直接取用；
+ * 队列为空、Context 变化或布局不支持后台 inflate 时，由调用方同步 inflate 兜底。
+ * Delegate 可能比 Activity 活得更久（如放在 ViewModel 中），因此 Context 只以弱引用持有，
+ * 预加载的 View 树在 Adapter 脱离最后一个 RecyclerView 时由 [release] 释放。
+ */
+internal class AsyncBindingPool<VB : ViewBinding>(
+    capacity: Int,
+    private val inflate: (LayoutInflater, ViewGroup, Boolean) -> VB
+) {
+
+    private val queue = ArrayBlockingQueue<VB>(capacity)
+    private val refilling = AtomicBoolean(false)
+
+    @Volatile
+    private var disabled = false
+
+    @Volatile
+    private var parentRef: WeakReference<ViewGroup>? = null
+
+    @Volatile
+    private var contextRef: WeakReference<Context>? = null
+
+    /**
+     * 主线程调用。取出一个预加载好的 Binding，并触发后台补货。
+     * 返回 null 表示调用方需要同步 inflate。
+     */
+    fun poll(parent: ViewGroup): VB? {
+        if (disabled) return null
+        if (contextRef?.get() !== parent.context) {
+            // Context（主题 / Activity）变了，旧 Binding 不可复用
+            queue.clear()
+            contextRef = WeakReference(parent.context)
+            parentRef = WeakReference(parent)
+            scheduleRefill()
+            return null
+        }
+        val binding = queue.poll()
+        scheduleRefill()
+        return binding
+    }
+
+    fun size(): Int = queue.size
+
+    /**
+     * 丢弃所有预加载的 Binding，释放其持有的 View 树。
+     */
+    fun clear(): Int {
+        val dropped = queue.size
+        queue.clear()
+        return dropped
+    }
+
+    /**
+     * 丢弃预加载的 Binding 并断开与 Context / 父布局的关联，进行中的补货会在下一次检查时停止。
+     */
+    fun release(): Int {
+        contextRef = null
+        parentRef = null
+        return clear()
+    }
+
+    private fun scheduleRefill() {
+        if (queue.remainingCapacity() == 0) return
+        if (!refilling.compareAndSet(false, true)) return
+        FusionExecutor.execute {
+            try {
+                refill()
+            } finally {
+                refilling.set(false)
+            }
+        }
+    }
+
+    private fun refill() {
+        val targetContext = contextRef?.get() ?: return
+        val parent = parentRef?.get() ?: return
+        val inflater = LayoutInflater.from(targetContext)
+        while (!disabled && queue.remainingCapacity() > 0 && contextRef?.get() === targetContext) {
+            val binding = try {
+                inflate(inflater, parent, false)
+            } catch (t: Throwable) {
+                // 布局中存在必须在主线程创建的 View（如内部创建 Handler），永久降级为同步 inflate
+                disabled = true
+                queue.clear()
+                FusionLogger.w("AsyncInflate") { "Background inflation not supported for this layout, falling back to sync. Cause: $t" }
+                return
+            }
+            if (contextRef?.get() !== targetContext || !queue.offer(binding)) return
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fusion.adapter.internal.engine
+
+import android.view.Choreographer
+import androidx.recyclerview.widget.RecyclerView
+import com.fusion.adapter.delegate.FusionDelegate
+import com.fusion.adapter.delegate.FusionHolder
+
+/**
+ * [DeferredBindScheduler]
+ * 分阶段绑定的第二阶段调度器（仅主线程）。
+ *
+ * onBindViewHolder 中只执行关键绑定，延迟部分在当前帧提交之后执行；
+ * 若此时列表正在惯性滑动，则等待滚动停止再统一执行。
+ * Holder 在执行前被回收或重新完整绑定时（bindGeneration 变化），对应任务自动作废；
+ * 期间的 Payload 绑定不会作废任务，执行时使用 Holder 最新绑定的数据。
+ */
+internal class DeferredBindScheduler(private val isScrollSettling: () -> Boolean) {
+
+    private class Task(
+        val holder: FusionHolder,
+        val generation: Int,
+        val delegate: FusionDelegate<Any, RecyclerView.ViewHolder>,
+        val item: Any,
+        val position: Int
+    )
+
+    private var pending = ArrayList<Task>()
+    private var running = ArrayList<Task>()
+    private var frameScheduled = false
+    private var waitingForIdle = false
+
+    // doFrame 发生在本帧 traversal 之前，再 post 一次以保证在本帧绘制完成后执行
+    private val drainAfterFrame = Runnable {
+        frameScheduled = false
+        drain()
+    }
+    private val frameCallback = Choreographer.FrameCallback { FusionExecutor.post(drainAfterFrame) }
+
+    fun schedule(holder: FusionHolder, delegate: FusionDelegate<Any, RecyclerView.ViewHolder>, item: Any, position: Int) {
+        pending.add(Task(holder, holder.bindGeneration, delegate, item, position))
+        if (!frameScheduled && !waitingForIdle) {
+            frameScheduled = true
+            Choreographer.getInstance().postFrameCallback(frameCallback)
+        }
+    }
+
+    fun onScrollIdle() {
+        if (!waitingForIdle) return
+        waitingForIdle = false
+        drain()
+    }
+
+    fun clear() {
+        pending.clear()
+        if (frameScheduled) {
+            Choreographer.getInstance().removeFrameCallback(frameCallback)
+            FusionExecutor.removeCallbacks(drainAfterFrame)
+            frameScheduled = false
+        }
+        waitingForIdle = false
+    }
+
+    private fun drain() {
+        if (pending.isEmpty()) return
+        if (isScrollSettling()) {
+            waitingForIdle = true
+            return
+        }
+        // 双缓冲交换，执行过程中新产生的任务进入下一批
+        val batch = pending
+        pending = running
+        running = batch
+        for (i in batch.indices) {
+            val task = batch[i]
+            if (task.holder.bindGeneration == task.generation) {
+                task.delegate.dispatchDeferredBind(task.holder, task.holder.boundItem ?: task.item, task.position)
+            }
+        }
+        batch.clear()
+    }
+}
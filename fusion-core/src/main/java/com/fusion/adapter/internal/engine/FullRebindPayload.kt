@@ -0,0 +1,17 @@
+package com.fusion.adapter.internal.engine
+
+/**
+ * [FullRebindPayload]
+ * 内部标记 Payload：要求对目标 Holder 执行一次完整绑定（用于惯性滑动结束后的补绑）。
+ * 使用 Payload 而不是无参 notifyItemChanged，可以让 RecyclerView 复用同一个 Holder、避免 change 动画。
+ */
+internal object FullRebindPayload {
+
+    fun isFullRebind(payloads: List<Any>): Boolean {
+        if (payloads.isEmpty()) return false
+        for (i in payloads.indices) {
+            if (payloads[i] === FullRebindPayload) return true
+        }
+        return false
+    }
+}
@@ -0,0 +1,13 @@
+package com.fusion.adapter.internal.engine
+
+import java.util.BitSet
+
+/**
+ * [FullSpanFlags]
+ * 提交阶段为整份列表预先计算的 StaggeredGrid 整行标记，与对应的列表一起保存。
+ * 没有任何整行项时不分配 BitSet。
+ */
+internal class FullSpanFlags(@JvmField val size: Int, private val bits: BitSet?) {
+
+    fun isFullSpan(position: Int): Boolean = bits?.get(position) ?: false
+}
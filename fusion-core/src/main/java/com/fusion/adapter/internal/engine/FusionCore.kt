@@ -1,18 +1,30 @@
 package com.fusion.adapter.internal.engine
 
+import android.content.ComponentCallbacks2
+import android.os.SystemClock
 import android.view.LayoutInflater
 import android.view.ViewGroup
 import androidx.annotation.LayoutRes
+import androidx.annotation.MainThread
 import androidx.annotation.RestrictTo
+import androidx.annotation.WorkerThread
+import androidx.recyclerview.widget.GridLayoutManager
+import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
 import androidx.viewbinding.ViewBinding
 import com.fusion.adapter.Fusion
 import com.fusion.adapter.FusionConfig
 import com.fusion.adapter.delegate.BindingHolder
 import com.fusion.adapter.delegate.BindingInflater
+import com.fusion.adapter.delegate.DslBindingDelegate
 import com.fusion.adapter.delegate.FusionDelegate
+import com.fusion.adapter.delegate.FusionHolder
+import com.fusion.adapter.delegate.LayoutDelegate
 import com.fusion.adapter.delegate.LayoutHolder
 import com.fusion.adapter.exception.UnregisteredTypeException
+import com.fusion.adapter.extensions.CachedSpanSizeLookup
+import com.fusion.adapter.internal.diagnostics.HolderFootprint
 import com.fusion.adapter.internal.diff.ItemIdUtils
 import com.fusion.adapter.router.TypeRouter
 import com.fusion.adapter.internal.registry.ViewTypeRegistry
@@ -22,7 +34,9 @@ import com.fusion.adapter.placeholder.FusionPlaceholderDelegate
 import com.fusion.adapter.placeholder.FusionPlaceholderViewHolder
 import com.fusion.adapter.placeholder.PlaceholderConfigurator
 import com.fusion.adapter.placeholder.PlaceholderDefinitionScope
+import java.util.BitSet
 import java.util.Collections
+import kotlin.math.hypot
 
 /**
  * [FusionCore]
@@ -34,6 +48,44 @@ class FusionCore {
 
     private val scopeId: Long = System.identityHashCode(this).toLong() shl 32
     private val monitor = com.fusion.adapter.internal.diagnostics.PerformanceMonitor()
+    private val footprint = HolderFootprint()
+    private val attachedViews = ArrayList<RecyclerView>(1)
+
+    @Volatile
+    private var releasedBytes = 0L
+
+    private val scrollListener = object : RecyclerView.OnScrollListener() {
+        override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+            if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                scrollVelocity = 0f
+                rebindFlingBoundHolders(recyclerView)
+                deferredBinds?.onScrollIdle()
+            }
+        }
+
+        override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+            val now = SystemClock.uptimeMillis()
+            val elapsed = now - lastScrollTime
+            lastScrollTime = now
+            if (elapsed in 1..MAX_VELOCITY_SAMPLE_GAP_MS) {
+                val instant = hypot(dx.toFloat(), dy.toFloat()) * 1000f / elapsed
+                // 指数平滑，过滤单帧抖动
+                scrollVelocity = scrollVelocity * 0.5f + instant * 0.5f
+            } else {
+                scrollVelocity = 0f
+            }
+        }
+    }
+
+    // 主线程访问：平滑后的滚动速度 (px/s)
+    private var scrollVelocity = 0f
+    private var lastScrollTime = 0L
+    private var density = 1f
+
+    private var deferredBinds: DeferredBindScheduler? = null
+
+    // 主线程访问，Release 采样计数
+    private var bindSampleCounter = 0
 
     fun filter(safeList: List<Any>): List<Any> {
         val start = System.currentTimeMillis()
@@ -70,6 +122,160 @@ class FusionCore {
         return if (hasRemoved) result else safeList
     }
 
+    /**
+     * [Prepare] 在后台为列表中的数据预计算渲染模型并写入各 Delegate 的缓存。
+     * 从 [anchor] 开始向后、再从 [anchor] 向前依次计算，每个 Delegate 最多计算其缓存容量条，
+     * 远处的数据不会把首屏的结果挤出缓存。
+     * 必须在工作线程调用；线程被中断（新一轮提交）时立即放弃。
+     */
+    @WorkerThread
+    @JvmOverloads
+    fun prepareRenderModels(list: List<Any>, anchor: Int = 0) {
+        if (list.isEmpty()) return
+        val start = System.currentTimeMillis()
+        val from = anchor.coerceIn(0, list.size - 1)
+        val budgets = HashMap<FusionDelegate<Any, *>, Int>()
+        var prepared = 0
+        for (step in list.indices) {
+            if (Thread.currentThread().isInterrupted) return
+            val index = if (step < list.size - from) from + step else from - 1 - (step - (list.size - from))
+            val item = list[index]
+            val delegate = viewTypeRegistry.getDelegateOrNull(viewTypeRegistry.getItemViewType(item)) ?: continue
+            if (!delegate.hasPrepare) continue
+            val used = budgets[delegate] ?: 0
+            if (used >= delegate.renderModelCacheSize) continue
+            if (cacheRenderModel(delegate, item)) {
+                budgets[delegate] = used + 1
+                prepared++
+            }
+        }
+        if (prepared > 0) {
+            FusionLogger.d("Core") { "Prepared $prepared render models in ${System.currentTimeMillis() - start}ms" }
+        }
+    }
+
+    /**
+     * 是否有任何已注册的 Delegate 声明了 prepare()。为 false 时调用方可以完全省去预计算环节。
+     */
+    fun hasPrepareDelegates(): Boolean = viewTypeRegistry.getAllDelegates().values.any { it.hasPrepare }
+
+    /**
+     * 在 FusionExecutor 上批量预计算，一批数据只切换一次线程。
+     */
+    fun prepareRenderModelsAsync(items: List<Any>) {
+        if (items.isEmpty()) return
+        FusionExecutor.execute { prepareRenderModels(items) }
+    }
+
+    /**
+     * 当前可见区域的第一个位置，作为后台预计算的锚点；未挂载或尚未布局时返回 0。
+     */
+    @MainThread
+    fun prepareAnchor(): Int {
+        for (rv in attachedViews) {
+            val position = when (val lm = rv.layoutManager) {
+                is LinearLayoutManager -> lm.findFirstVisibleItemPosition()
+                is StaggeredGridLayoutManager -> lm.findFirstVisibleItemPositions(null).filter { it >= 0 }.minOrNull()
+                else -> null
+            }
+            if (position != null && position >= 0) return position
+        }
+        return 0
+    }
+
+    /**
+     * 让所有声明了 prepare() 的 Delegate 的渲染模型缓存至少容纳 [items] 条，由数据窗口大小已知的调用方（如分页）设置。
+     */
+    fun ensureRenderModelCapacity(items: Int) {
+        for (delegate in viewTypeRegistry.getAllDelegates().values) {
+            if (delegate.hasPrepare) delegate.ensureRenderModelCapacity(items)
+        }
+    }
+
+    /**
+     * 该数据对应的 Delegate 是否声明了 prepare()。
+     */
+    fun needsPrepare(item: Any): Boolean =
+        viewTypeRegistry.getDelegateOrNull(viewTypeRegistry.getItemViewType(item))?.hasPrepare == true
+
+    /**
+     * [Prepare] 为单个数据预计算渲染模型并写入缓存，返回是否得到了模型。
+     * prepare() 抛出的异常只记录，绑定时会在主线程重新计算并暴露。
+     */
+    @WorkerThread
+    fun prepareRenderModel(item: Any): Boolean {
+        val delegate = viewTypeRegistry.getDelegateOrNull(viewTypeRegistry.getItemViewType(item)) ?: return false
+        if (!delegate.hasPrepare) return false
+        return cacheRenderModel(delegate, item)
+    }
+
+    private fun cacheRenderModel(delegate: FusionDelegate<Any, *>, item: Any): Boolean {
+        return try {
+            delegate.cacheRenderModel(item)
+        } catch (e: Exception) {
+            FusionLogger.e("Core", e) { "prepare() failed for ${item.javaClass.simpleName}" }
+            false
+        }
+    }
+
+    /**
+     * 当前是否挂载在 StaggeredGridLayoutManager 上；只有此时才需要预计算整行标记。
+     */
+    @MainThread
+    fun hasStaggeredLayout(): Boolean = attachedViews.any { it.layoutManager is StaggeredGridLayoutManager }
+
+    /**
+     * [Full Span] 为整份列表计算整行标记，通常与 filter 一起在后台执行。
+     */
+    internal fun computeFullSpanFlags(list: List<Any>): FullSpanFlags {
+        var bits: BitSet? = null
+        for (i in list.indices) {
+            val item = list[i]
+            val delegate = viewTypeRegistry.getDelegateOrNull(viewTypeRegistry.getItemViewType(item)) ?: continue
+            if (delegate.resolveFullSpan(item)) {
+                if (bits == null) bits = BitSet(list.size)
+                bits.set(i)
+            }
+        }
+        return FullSpanFlags(list.size, bits)
+    }
+
+    /**
+     * 挂载的 GridLayoutManager 的列数；未使用 Fusion 的网格支持时返回 0，此时无需预计算 Span 大小。
+     */
+    @MainThread
+    internal fun gridSpanCount(): Int {
+        for (rv in attachedViews) {
+            val lm = rv.layoutManager as? GridLayoutManager ?: continue
+            if (lm.spanSizeLookup is CachedSpanSizeLookup) return lm.spanCount
+        }
+        return 0
+    }
+
+    /**
+     * [Span Size] 按 [spanCount] 为整份列表计算 Span 大小，通常与 filter 一起在后台执行。
+     */
+    internal fun computeSpanSizes(list: List<Any>, spanCount: Int): IntArray {
+        val sizes = IntArray(list.size)
+        for (i in list.indices) {
+            val item = list[i]
+            val delegate = viewTypeRegistry.getDelegateOrNull(viewTypeRegistry.getItemViewType(item))
+            sizes[i] = delegate?.resolveSpanSize(item, i, spanCount) ?: 1
+        }
+        return sizes
+    }
+
+    /**
+     * 列表提交完成后，把预计算的 Span 大小写入挂载在 [adapter] 上的 [CachedSpanSizeLookup]。
+     */
+    @MainThread
+    internal fun applySpanSizes(adapter: RecyclerView.Adapter<*>, sizes: IntArray, spanCount: Int) {
+        for (rv in attachedViews) {
+            val lookup = (rv.layoutManager as? GridLayoutManager)?.spanSizeLookup as? CachedSpanSizeLookup ?: continue
+            if (lookup.adapter === adapter) lookup.seed(sizes, spanCount)
+        }
+    }
+
     private fun handleUnregisteredItem(item: Any, config: FusionConfig) {
         val exception = UnregisteredTypeException(item)
         FusionLogger.e("Core", exception) { "Unregistered type detected: ${item.javaClass.name}" }
@@ -114,7 +320,7 @@ class FusionCore {
 
             override fun onBindPlaceholder(holder: BindingHolder<VB>) {
                 val itemConfiguration = scope.getConfiguration()
-                itemConfiguration.onBind?.invoke(holder.binding, FusionPlaceholder(), 0)
+                itemConfiguration.onBind?.invoke(holder.binding, FusionPlaceholder.SLOT, 0)
             }
 
             override fun getStableId(item: Any): Any = item
@@ -182,6 +388,7 @@ class FusionCore {
         if (Fusion.getConfig().isDebug) {
             monitor.recordCreate(viewType, duration)
         }
+        footprint.recordIfAbsent(viewType, holder.itemView)
         
         val durationMicros = duration / 1000
         if (durationMicros > 2000) {
@@ -194,15 +401,115 @@ class FusionCore {
         val viewType = viewTypeRegistry.getItemViewType(item)
         val delegate = viewTypeRegistry.getDelegateOrNull(viewType)
 
-        if (Fusion.getConfig().isDebug) {
+        val config = Fusion.getConfig()
+        if (config.isDebug) {
             monitor.recordBind(viewType)
         }
 
-        if (delegate != null) {
-            delegate.onBindViewHolder(holder, item, position, payloads)
-        } else {
+        if (delegate == null) {
             FusionLogger.e("Core") { "Bind failed: No delegate found for item at position $position" }
+            return
         }
+        if (holder !is FusionHolder) {
+            bindMeasured(delegate, holder, item, position, payloads, viewType, config)
+            return
+        }
+
+        // 滚动停止后的补绑：等价于一次完整绑定
+        val effectivePayloads = if (FullRebindPayload.isFullRebind(payloads)) Collections.emptyList() else payloads
+        val isFullBind = effectivePayloads.isEmpty()
+        val wasFlingBound = holder.boundInFlingMode
+
+        var key: Any? = null
+        // 没有 Revision 时永远不会跳过，连 Key 也不必计算
+        val revision = if (delegate.skipRedundantBinds) delegate.getRevision(item) else null
+        if (revision != null) {
+            key = delegate.getStableId(item)
+            if (isFullBind && !wasFlingBound && holder.isBoundTo(delegate, key, revision, position)) {
+                if (config.isDebug) monitor.recordSkippedBind(viewType)
+                return
+            }
+        }
+
+        holder.boundDelegate = delegate
+        if (isFullBind) {
+            holder.boundInFlingMode = delegate.supportsFlingMode && isFlingMode(config)
+            holder.renderModel = if (delegate.hasPrepare) delegate.resolveRenderModel(item) else null
+        }
+        bindMeasured(delegate, holder, item, position, effectivePayloads, viewType, config)
+
+        if (key != null) holder.rememberBindState(key, revision, position) else holder.invalidateBindState()
+        if (!holder.boundInFlingMode && delegate.hasDeferredBind && (isFullBind || holder.payloadFellBack)) {
+            // Payload 回落到 onBind 时可能清空了延迟阶段的内容：以最新数据替换尚未执行的延迟任务
+            if (!isFullBind) holder.cancelPendingWork()
+            scheduleDeferredBind(holder, delegate, item, position)
+        }
+    }
+
+    /**
+     * [Fling Mode] 惯性滑动且速度超过阈值时，声明支持的 Delegate 以轻量模式绑定。
+     */
+    private fun isFlingMode(config: FusionConfig): Boolean {
+        val threshold = config.flingModeVelocityDp
+        if (threshold <= 0 || scrollVelocity < threshold * density) return false
+        return attachedViews.any { it.scrollState == RecyclerView.SCROLL_STATE_SETTLING }
+    }
+
+    /**
+     * 滚动停止后，对以轻量模式绑定的可见 Holder 发送 [FullRebindPayload]，触发完整绑定。
+     */
+    private fun rebindFlingBoundHolders(recyclerView: RecyclerView) {
+        for (i in 0 until recyclerView.childCount) {
+            val holder = recyclerView.getChildViewHolder(recyclerView.getChildAt(i)) as? FusionHolder ?: continue
+            if (!holder.boundInFlingMode) continue
+            val position = holder.bindingAdapterPosition
+            if (position == RecyclerView.NO_POSITION) continue
+            holder.bindingAdapter?.notifyItemChanged(position, FullRebindPayload)
+        }
+    }
+
+    private fun scheduleDeferredBind(holder: FusionHolder, delegate: FusionDelegate<Any, RecyclerView.ViewHolder>, item: Any, position: Int) {
+        val scheduler = deferredBinds ?: DeferredBindScheduler {
+            attachedViews.any { it.scrollState == RecyclerView.SCROLL_STATE_SETTLING }
+        }.also { deferredBinds = it }
+        scheduler.schedule(holder, delegate, item, position)
+    }
+
+    private fun bindMeasured(
+        delegate: FusionDelegate<Any, RecyclerView.ViewHolder>,
+        holder: RecyclerView.ViewHolder,
+        item: Any,
+        position: Int,
+        payloads: MutableList<Any>,
+        viewType: Int,
+        config: FusionConfig
+    ) {
+        if (!shouldSampleBind(config)) {
+            delegate.onBindViewHolder(holder, item, position, payloads)
+            return
+        }
+        val start = System.nanoTime()
+        delegate.onBindViewHolder(holder, item, position, payloads)
+        monitor.recordBindLatency(viewType, payloads.isNotEmpty(), System.nanoTime() - start)
+    }
+
+    private fun shouldSampleBind(config: FusionConfig): Boolean {
+        if (config.isDebug) return true
+        val rate = config.bindLatencySampleRate
+        if (rate <= 0) return false
+        if (++bindSampleCounter < rate) return false
+        bindSampleCounter = 0
+        return true
+    }
+
+    private fun latencyOf(viewType: Int, isPayload: Boolean): com.fusion.adapter.diagnostics.BindLatency {
+        val histogram = monitor.getBindLatency(viewType, isPayload) ?: return com.fusion.adapter.diagnostics.BindLatency.EMPTY
+        return com.fusion.adapter.diagnostics.BindLatency(
+            samples = histogram.count(),
+            p50Ms = histogram.percentile(0.50) / 1_000_000.0,
+            p95Ms = histogram.percentile(0.95) / 1_000_000.0,
+            p99Ms = histogram.percentile(0.99) / 1_000_000.0
+        )
     }
 
     fun getItemId(item: Any, position: Int): Long {
@@ -216,6 +523,15 @@ class FusionCore {
         return ItemIdUtils.getItemId(viewType, uniqueKey)
     }
 
+    /**
+     * 数据的稳定 Key（Delegate.getStableId），占位符返回 null。
+     */
+    fun getStableKey(item: Any): Any? {
+        if (item is FusionPlaceholder) return null
+        val viewType = viewTypeRegistry.getItemViewType(item)
+        return viewTypeRegistry.getDelegate(viewType).getStableId(item)
+    }
+
     fun areItemsTheSame(oldItem: Any, newItem: Any): Boolean {
         if (oldItem === newItem) return true
         if (oldItem.javaClass != newItem.javaClass) return false
@@ -259,15 +575,126 @@ class FusionCore {
     }
 
     fun onViewRecycled(holder: RecyclerView.ViewHolder) {
-        viewTypeRegistry.getDelegateOrNull(holder.itemViewType)?.onViewRecycled(holder)
+        // 回收后用户可能在 onViewRecycled 中清理了 View，下次必须完整绑定
+        if (holder is FusionHolder) {
+            holder.invalidateBindState()
+            holder.cancelPendingWork()
+            holder.boundInFlingMode = false
+            holder.renderModel = null
+        }
+        resolveBoundDelegate(holder)?.onViewRecycled(holder)
+        // Delegate 的 onViewRecycled 仍可读取数据，之后释放引用，回收池中的 Holder 不再持有旧数据
+        if (holder is FusionHolder) holder.boundItem = null
     }
 
     fun onViewAttachedToWindow(holder: RecyclerView.ViewHolder) {
-        viewTypeRegistry.getDelegateOrNull(holder.itemViewType)?.onViewAttachedToWindow(holder)
+        resolveBoundDelegate(holder)?.onViewAttachedToWindow(holder)
     }
 
     fun onViewDetachedFromWindow(holder: RecyclerView.ViewHolder) {
-        viewTypeRegistry.getDelegateOrNull(holder.itemViewType)?.onViewDetachedFromWindow(holder)
+        resolveBoundDelegate(holder)?.onViewDetachedFromWindow(holder)
+    }
+
+    /**
+     * Fusion 自有 Holder 直接读取绑定时记录的 Delegate，其它 Holder 回退到注册表查询。
+     */
+    private fun resolveBoundDelegate(holder: RecyclerView.ViewHolder): FusionDelegate<Any, RecyclerView.ViewHolder>? {
+        if (holder is FusionHolder) {
+            holder.boundDelegate?.let { return it }
+        }
+        return viewTypeRegistry.getDelegateOrNull(holder.itemViewType)
+    }
+
+    fun onAttachedToRecyclerView(recyclerView: RecyclerView) {
+        if (!attachedViews.contains(recyclerView)) {
+            attachedViews.add(recyclerView)
+            recyclerView.addOnScrollListener(scrollListener)
+            density = recyclerView.resources.displayMetrics.density
+        }
+        FusionMemoryTrimmer.register(recyclerView.context, this)
+    }
+
+    fun onDetachedFromRecyclerView(recyclerView: RecyclerView) {
+        attachedViews.remove(recyclerView)
+        recyclerView.removeOnScrollListener(scrollListener)
+        ((recyclerView.layoutManager as? GridLayoutManager)?.spanSizeLookup as? CachedSpanSizeLookup)?.release()
+        if (attachedViews.isEmpty()) {
+            FusionMemoryTrimmer.unregister(this)
+            deferredBinds?.clear()
+            // 预加载的 Binding 持有旧 Activity 的 View 树，Adapter 可能比 Activity 活得更久
+            for (delegate in viewTypeRegistry.getAllDelegates().values) {
+                (delegate as? DslBindingDelegate<*, *>)?.asyncPool?.release()
+            }
+        }
+    }
+
+    /**
+     * 估算当前常驻的 Holder 数量：屏幕上的 + RecycledViewPool 中的 + 异步预加载队列中的。
+     */
+    private fun retainedHolderCount(viewType: Int, delegate: FusionDelegate<*, *>): Int {
+        var count = (delegate as? DslBindingDelegate<*, *>)?.asyncPool?.size() ?: 0
+        for (rv in attachedViews) {
+            count += rv.recycledViewPool.getRecycledViewCount(viewType)
+            for (i in 0 until rv.childCount) {
+                val child = rv.getChildAt(i)
+                if (rv.getChildViewHolder(child).itemViewType == viewType) count++
+            }
+        }
+        return count
+    }
+
+    /**
+     * 外层 Adapter（如分页）在内存压力下释放自身持有的数据，级别与 [trimMemory] 一致。
+     */
+    var trimMemoryListener: ((level: Int) -> Unit)? = null
+
+    /**
+     * [Memory] 分级释放内存，返回估算释放的字节数。
+     *
+     * - RUNNING_LOW 及以上：丢弃异步预加载的 Binding、Grid 的 span 索引缓存。
+     * - RUNNING_CRITICAL / UI_HIDDEN 及以上：清空本 Adapter 所有 ViewType 在 RecycledViewPool 中的 Holder。
+     * - MODERATE 及以上：清空 PerformanceMonitor 的创建 / 绑定计数（绑定延迟直方图与跳过计数保留）。
+     */
+    @MainThread
+    fun trimMemory(level: Int): Long {
+        if (level < ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) return 0L
+        trimMemoryListener?.invoke(level)
+        var released = 0L
+        val delegates = viewTypeRegistry.getAllDelegates()
+
+        for ((viewType, delegate) in delegates) {
+            val dropped = (delegate as? DslBindingDelegate<*, *>)?.asyncPool?.clear() ?: 0
+            released += dropped * footprint.estimate(viewType)
+            delegate.trimRenderModels()
+        }
+        for (rv in attachedViews) {
+            val lookup = (rv.layoutManager as? GridLayoutManager)?.spanSizeLookup ?: continue
+            if (lookup is CachedSpanSizeLookup) {
+                lookup.trim()
+            } else {
+                lookup.invalidateSpanIndexCache()
+                lookup.invalidateSpanGroupIndexCache()
+            }
+        }
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            for (rv in attachedViews) {
+                val pool = rv.recycledViewPool
+                for (viewType in delegates.keys) {
+                    var dropped = 0
+                    while (pool.getRecycledView(viewType) != null) dropped++
+                    released += dropped * footprint.estimate(viewType)
+                }
+            }
+        }
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            monitor.trimCounters()
+        }
+
+        releasedBytes += released
+        FusionLogger.d("Memory") { "trimMemory(level=$level) released ~${released / 1024}KB" }
+        return released
     }
 
     fun getDiagnostics(totalItems: Int): com.fusion.adapter.diagnostics.FusionDiagnostics {
@@ -288,7 +715,13 @@ class FusionCore {
                 createCount = stats.createCount,
                 bindCount = stats.bindCount,
                 avgCreateTimeMs = stats.avgCreateTimeNs / 1_000_000.0,
-                totalCreateTimeMs = stats.totalCreateTimeNs / 1_000_000.0
+                totalCreateTimeMs = stats.totalCreateTimeNs / 1_000_000.0,
+                undeclaredViewLookups = (delegate as? LayoutDelegate<*>)?.undeclaredViewLookups?.sum() ?: 0,
+                retainedHolders = retainedHolderCount(viewType, delegate),
+                estimatedHolderBytes = footprint.estimate(viewType),
+                skippedBindCount = stats.skippedBindCount,
+                fullBindLatency = latencyOf(viewType, isPayload = false),
+                payloadBindLatency = latencyOf(viewType, isPayload = true)
             )
         }.sortedByDescending { it.totalCreateTimeMs } // Sort by most expensive
         
@@ -296,8 +729,12 @@ class FusionCore {
             isDebug = Fusion.getConfig().isDebug,
             totalItems = totalItems,
             registeredDelegatesCount = allDelegates.size,
-            delegates = delegateDiagnostics
+            delegates = delegateDiagnostics,
+            memoryReleasedBytes = releasedBytes
         )
     }
-}
 
+    private companion object {
+        const val MAX_VELOCITY_SAMPLE_GAP_MS = 100L
+    }
+}
@@ -70,6 +70,17 @@ internal object FusionExecutor {
         return Cancellable { mainHandler.removeCallbacks(wrapper) }
     }
 
+    /**
+     * 总是 post 到主线程消息队列末尾（即使当前已在主线程）。
+     */
+    fun post(task: Runnable) {
+        mainHandler.post(task)
+    }
+
+    fun removeCallbacks(task: Runnable) {
+        mainHandler.removeCallbacks(task)
+    }
+
     fun isMainThread(): Boolean = Looper.myLooper() == Looper.getMainLooper()
 
     /**
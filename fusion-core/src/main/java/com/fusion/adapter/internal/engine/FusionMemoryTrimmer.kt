@@ -0,0 +1,51 @@
+package com.fusion.adapter.internal.engine
+
+import android.content.ComponentCallbacks2
+import android.content.Context
+import android.content.res.Configuration
+import com.fusion.adapter.log.FusionLogger
+import java.util.Collections
+import java.util.WeakHashMap
+
+/**
+ * [FusionMemoryTrimmer]
+ * 进程级内存压力分发器。
+ *
+ * 第一个 Adapter 挂载到 RecyclerView 时向 Application 注册一次 [ComponentCallbacks2]，
+ * 之后把 onTrimMemory 转发给所有处于挂载状态的 [FusionCore]。Core 以弱引用持有，不影响回收。
+ */
+internal object FusionMemoryTrimmer : ComponentCallbacks2 {
+
+    private val cores: MutableSet<FusionCore> = Collections.newSetFromMap(WeakHashMap())
+    private var registered = false
+
+    @Synchronized
+    fun register(context: Context, core: FusionCore) {
+        cores.add(core)
+        if (!registered) {
+            context.applicationContext.registerComponentCallbacks(this)
+            registered = true
+        }
+    }
+
+    @Synchronized
+    fun unregister(core: FusionCore) {
+        cores.remove(core)
+    }
+
+    override fun onTrimMemory(level: Int) {
+        val snapshot = synchronized(this) { cores.toList() }
+        var released = 0L
+        for (core in snapshot) {
+            released += core.trimMemory(level)
+        }
+        FusionLogger.i("Memory") { "onTrimMemory(level=$level) released ~${released / 1024}KB across ${snapshot.size} adapters." }
+    }
+
+    @Deprecated("Deprecated in Java")
+    override fun onLowMemory() {
+        onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE)
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {}
+}
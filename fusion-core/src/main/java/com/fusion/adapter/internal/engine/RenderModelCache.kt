@@ -0,0 +1,38 @@
+package com.fusion.adapter.internal.engine
+
+import androidx.collection.LruCache
+
+/**
+ * [RenderModelCache]
+ * prepare() 结果的 LRU 缓存，按 Stable ID 存放，命中时再校验版本。
+ *
+ * 版本 token 为 getRevision() 的返回值，与冗余绑定跳过的判定一致：未提供 Revision 的数据可能被原地修改，
+ * 不进入缓存，每次绑定都重新 prepare()。后台线程写入、主线程读取，LruCache 内部已同步。
+ */
+internal class RenderModelCache(maxSize: Int) {
+
+    private class Entry(@JvmField val revision: Any, @JvmField val model: Any)
+
+    private val cache = LruCache<Any, Entry>(maxSize)
+
+    fun get(key: Any, revision: Any): Any? {
+        val entry = cache.get(key) ?: return null
+        return if (revision == entry.revision) entry.model else null
+    }
+
+    fun put(key: Any, revision: Any, model: Any) {
+        cache.put(key, Entry(revision, model))
+    }
+
+    fun resize(maxSize: Int) {
+        cache.resize(maxSize)
+    }
+
+    fun size(): Int = cache.size()
+
+    fun clear(): Int {
+        val size = cache.size()
+        cache.evictAll()
+        return size
+    }
+}
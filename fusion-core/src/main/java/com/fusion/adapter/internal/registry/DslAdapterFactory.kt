@@ -33,9 +33,10 @@ internal object DslAdapterFactory {
     internal fun <T : Any> createLayoutDelegate(
         clazz: Class<T>,
         layoutResId: Int,
-        config: ItemConfiguration<T, LayoutHolder>
+        config: ItemConfiguration<T, LayoutHolder>,
+        viewIds: IntArray
     ): FusionDelegate<T, *> {
         val key = GlobalTypeKey(clazz, layoutResId)
-        return DslLayoutDelegate(key, layoutResId, config)
+        return DslLayoutDelegate(key, layoutResId, config, viewIds)
     }
 }
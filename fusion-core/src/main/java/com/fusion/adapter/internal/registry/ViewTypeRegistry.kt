@@ -57,7 +57,13 @@ class ViewTypeRegistry {
 
     fun isSupported(item: Any): Boolean {
         if (item is FusionPlaceholder) return hasPlaceholderDelegate
-        val clazz = item.javaClass
+        return isClassSupported(item.javaClass)
+    }
+
+    /**
+     * 该类型（含经继承解析）是否有已注册的 Router。
+     */
+    fun isClassSupported(clazz: Class<*>): Boolean {
         supportedCache[clazz]?.let { return it }
         val isSupported = checkIsSupportedInternal(clazz)
         supportedCache[clazz] = isSupported
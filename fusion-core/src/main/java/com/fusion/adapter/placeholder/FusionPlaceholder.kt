@@ -4,4 +4,14 @@ package com.fusion.adapter.placeholder
  * [FusionPlaceholder]
  * 代表列表中的一个占位符实体。
  */
-class FusionPlaceholder
+class FusionPlaceholder {
+
+    companion object {
+        /**
+         * 共享的不可变实例，仅用于绑定 / 查询“空槽位”（如 Paging 的 null 项），避免滚动时反复分配。
+         * 作为列表数据提交时请继续使用独立实例。
+         */
+        @JvmField
+        val SLOT = FusionPlaceholder()
+    }
+}
@@ -0,0 +1,77 @@
+package com.fusion.adapter.delegate
+
+import android.view.View
+import com.fusion.adapter.extensions.getItem
+import com.fusion.adapter.extensions.setItem
+import com.google.common.truth.Truth.assertThat
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Test
+import java.util.concurrent.atomic.LongAdder
+
+class LayoutHolderTest {
+
+    private val title = mockk<View>()
+    private val subtitle = mockk<View>()
+    private val footer = mockk<View>()
+
+    private val itemView = mockk<View>().apply {
+        every { findViewById<View>(TITLE) } returns title
+        every { findViewById<View>(SUBTITLE) } returns subtitle
+        every { findViewById<View>(FOOTER) } returns footer
+    }
+
+    @Test
+    fun `given declared ids, when holder is created, then views are resolved once and indexed directly`() {
+        // Arrange
+        val holder = LayoutHolder(itemView)
+
+        // Act
+        holder.captureViews(intArrayOf(TITLE, SUBTITLE), LongAdder())
+
+        // Assert
+        assertThat(holder.view<View>(0)).isSameInstanceAs(title)
+        assertThat(holder.view<View>(1)).isSameInstanceAs(subtitle)
+        assertThat(holder.findView<View>(SUBTITLE)).isSameInstanceAs(subtitle)
+        verify(exactly = 1) { itemView.findViewById<View>(SUBTITLE) }
+    }
+
+    @Test
+    fun `given declared ids, when an undeclared id is looked up, then the lookup is counted`() {
+        // Arrange
+        val counter = LongAdder()
+        val holder = LayoutHolder(itemView)
+        holder.captureViews(intArrayOf(TITLE), counter)
+
+        // Act
+        holder.findView<View>(TITLE)
+        holder.findView<View>(FOOTER)
+        holder.findView<View>(FOOTER)
+
+        // Assert
+        assertThat(counter.sum()).isEqualTo(2)
+        verify(exactly = 1) { itemView.findViewById<View>(FOOTER) }
+    }
+
+    @Test
+    fun `given a fusion holder, when item is set, then it is served from the holder slot instead of view tags`() {
+        // Arrange
+        val holder = LayoutHolder(itemView)
+        val item = "payload"
+
+        // Act
+        holder.setItem(item)
+
+        // Assert
+        assertThat(holder.getItem<String>()).isSameInstanceAs(item)
+        verify(exactly = 0) { itemView.setTag(any(), any()) }
+        verify(exactly = 0) { itemView.getTag(any()) }
+    }
+
+    private companion object {
+        const val TITLE = 1
+        const val SUBTITLE = 2
+        const val FOOTER = 3
+    }
+}
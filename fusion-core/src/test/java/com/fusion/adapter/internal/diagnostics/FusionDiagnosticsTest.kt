@@ -1,5 +1,6 @@
 package com.fusion.adapter.internal.diagnostics
 
+import android.content.ComponentCallbacks2
 import android.view.ViewGroup
 import androidx.recyclerview.widget.RecyclerView
 import com.fusion.adapter.Fusion
@@ -120,4 +121,24 @@ class FusionDiagnosticsTest {
         assertThat(diag.createCount).isEqualTo(0)
         assertThat(diag.bindCount).isEqualTo(0)
     }
+
+    @Test
+    fun `given recorded metrics, when memory is trimmed at moderate level, then counters are released and latency is kept`() {
+        // Arrange
+        val delegate = TestDelegate()
+        core.register(String::class.java, delegate)
+        val viewType = core.getItemViewType("A")
+        val holder = mockk<RecyclerView.ViewHolder>(relaxed = true)
+        core.onCreateViewHolder(mockk(), viewType)
+        core.onBindViewHolder(holder, "A", 0)
+
+        // Act
+        core.trimMemory(ComponentCallbacks2.TRIM_MEMORY_MODERATE)
+
+        // Assert
+        val diag = core.getDiagnostics(1).delegates.first()
+        assertThat(diag.createCount).isEqualTo(0)
+        assertThat(diag.bindCount).isEqualTo(0)
+        assertThat(diag.fullBindLatency.samples).isEqualTo(1)
+    }
 }
@@ -0,0 +1,42 @@
+package com.fusion.adapter.internal.diagnostics
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+
+class LatencyHistogramTest {
+
+    @Test
+    fun `given uniform samples, when querying percentiles, then results are within bucket error`() {
+        // Arrange
+        val histogram = LatencyHistogram()
+
+        // Act
+        for (micros in 1..1000) {
+            histogram.record(micros * 1_000L)
+        }
+
+        // Assert
+        assertThat(histogram.count()).isEqualTo(1000)
+        assertThat(histogram.percentile(0.50).toDouble()).isWithin(500_000 * 0.25).of(500_000.0)
+        assertThat(histogram.percentile(0.99).toDouble()).isWithin(990_000 * 0.25).of(990_000.0)
+        assertThat(histogram.percentile(0.50)).isAtMost(histogram.percentile(0.95))
+    }
+
+    @Test
+    fun `given any value, when bucketed, then it never exceeds its bucket upper bound`() {
+        // Arrange
+        val values = longArrayOf(0, 1, 3, 4, 7, 8, 1_000, 16_777_216, 123_456_789, Long.MAX_VALUE / 3)
+
+        // Act & Assert
+        for (value in values) {
+            val index = LatencyHistogram.indexOf(value)
+            assertThat(LatencyHistogram.upperBoundOf(index)).isAtLeast(value)
+            if (index > 0) assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value)
+        }
+    }
+
+    @Test
+    fun `given no samples, when querying percentile, then zero is returned`() {
+        assertThat(LatencyHistogram().percentile(0.99)).isEqualTo(0)
+    }
+}
@@ -17,10 +17,12 @@ class PropertyObserverLogicTest {
         override fun getStableId(item: TestModel): Any = item.id
         override fun onCreateViewHolder(parent: ViewGroup): RecyclerView.ViewHolder = throw UnsupportedOperationException()
         override fun onBindViewHolder(holder: RecyclerView.ViewHolder, item: TestModel, position: Int, payloads: MutableList<Any>) {}
+
+        fun dispatch(item: TestModel, payloads: List<Any>): Boolean = dispatchHandledPayloads(Any(), item, payloads)
     }
 
     @Test
-    fun `given 1 observer, when property changes, then return single payload`() {
+    fun `given 1 observer, when property changes, then return mask with its bit`() {
         val delegate = TestDelegate()
         val observer = PropertyObserver1<TestModel, String>({ it.name }) { }
         delegate.addObserver(observer)
@@ -28,12 +30,12 @@ class PropertyObserverLogicTest {
         val old = TestModel(1, "A", 20, "M")
         val new = TestModel(1, "B", 20, "M")
 
-        val payload = delegate.getChangePayload(old, new)
-        assertThat(payload).isEqualTo(observer)
+        val payload = delegate.getChangePayload(old, new) as ChangeMask
+        assertThat(payload.bits).isEqualTo(0b1L)
     }
 
     @Test
-    fun `given 2 observers, when both change, then return list of 2 payloads`() {
+    fun `given 2 observers, when both change, then return mask with 2 bits`() {
         val delegate = TestDelegate()
         val obs1 = PropertyObserver1<TestModel, String>({ it.name }) { }
         val obs2 = PropertyObserver1<TestModel, Int>({ it.age }) { }
@@ -43,12 +45,12 @@ class PropertyObserverLogicTest {
         val old = TestModel(1, "A", 20, "M")
         val new = TestModel(1, "B", 21, "M")
 
-        val payload = delegate.getChangePayload(old, new) as List<*>
-        assertThat(payload).containsExactly(obs1, obs2)
+        val payload = delegate.getChangePayload(old, new) as ChangeMask
+        assertThat(payload.bits).isEqualTo(0b11L)
     }
 
     @Test
-    fun `given 4 observers (extra), when all change, then return list of 4 payloads`() {
+    fun `given 4 observers, when all change, then return mask with 4 bits`() {
         val delegate = TestDelegate()
         val obs1 = PropertyObserver1<TestModel, String>({ it.name }) { }
         val obs2 = PropertyObserver1<TestModel, Int>({ it.age }) { }
@@ -58,14 +60,13 @@ class PropertyObserverLogicTest {
         delegate.addObserver(obs1)
         delegate.addObserver(obs2)
         delegate.addObserver(obs3)
-        delegate.addObserver(obs4) // Goes into extraObservers
+        delegate.addObserver(obs4)
 
         val old = TestModel(1, "A", 20, "M")
         val new = TestModel(2, "B", 21, "F")
 
-        val payload = delegate.getChangePayload(old, new) as List<*>
-        assertThat(payload).hasSize(4)
-        assertThat(payload).containsExactly(obs1, obs2, obs3, obs4)
+        val payload = delegate.getChangePayload(old, new) as ChangeMask
+        assertThat(payload.bits).isEqualTo(0b1111L)
     }
 
     @Test
@@ -80,4 +81,44 @@ class PropertyObserverLogicTest {
         
         assertThat(payload).isNull()
     }
+
+    @Test
+    fun `given merged mask payloads, when dispatching, then each observer runs once`() {
+        // Arrange
+        val delegate = TestDelegate()
+        var nameRuns = 0
+        var ageRuns = 0
+        delegate.addObserver(PropertyObserver1<TestModel, String>({ it.name }) { nameRuns++ })
+        delegate.addObserver(PropertyObserver1<TestModel, Int>({ it.age }) { ageRuns++ })
+        val item = TestModel(1, "A", 20, "M")
+
+        // Act
+        val handled = delegate.dispatch(item, listOf(ChangeMask.of(0b01L)!!, ChangeMask.of(0b11L)!!))
+
+        // Assert
+        assertThat(handled).isTrue()
+        assertThat(nameRuns).isEqualTo(1)
+        assertThat(ageRuns).isEqualTo(1)
+    }
+
+    @Test
+    fun `given int observer, when value changes, then dispatch primitive value`() {
+        // Arrange
+        val delegate = TestDelegate()
+        var received = -1
+        delegate.addObserver(object : IntPropertyObserver<TestModel>() {
+            override fun get(item: TestModel): Int = item.age
+            override fun apply(receiver: Any, value: Int) { received = value }
+        })
+        val old = TestModel(1, "A", 20, "M")
+        val new = TestModel(1, "A", 21, "M")
+
+        // Act
+        val payload = delegate.getChangePayload(old, new)
+        delegate.dispatch(new, listOf(payload!!))
+
+        // Assert
+        assertThat(delegate.getChangePayload(old, old)).isNull()
+        assertThat(received).isEqualTo(21)
+    }
 }
@@ -5,6 +5,7 @@ import androidx.recyclerview.widget.RecyclerView
 import com.fusion.adapter.Fusion
 import com.fusion.adapter.FusionConfig
 import com.fusion.adapter.delegate.FusionDelegate
+import com.fusion.adapter.delegate.LayoutHolder
 import com.fusion.adapter.exception.UnregisteredTypeException
 import com.fusion.adapter.core.GlobalTypeKey
 import com.fusion.adapter.core.ViewTypeKey
@@ -57,4 +58,130 @@ class FusionCoreIntegrationTest {
             core.filter(listOf(1.23f))
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `given holder already bound to same revision, when rebinding without payload, then onBind is skipped until recycled`() {
+        // Arrange
+        val delegate = CountingDelegate().apply { revision = 1 }
+        core.register(String::class.java, delegate)
+        val holder = LayoutHolder(mockk(relaxed = true))
+        val item = "Item"
+
+        // Act
+        core.onBindViewHolder(holder, item, 0)
+        core.onBindViewHolder(holder, item, 0)
+        val afterRebind = delegate.bindCount
+        core.onViewRecycled(holder)
+        val itemAfterRecycle = holder.boundItem
+        core.onBindViewHolder(holder, item, 0)
+
+        // Assert
+        assertThat(afterRebind).isEqualTo(1)
+        assertThat(itemAfterRecycle).isNull()
+        assertThat(delegate.bindCount).isEqualTo(2)
+    }
+
+    @Test
+    fun `given delegate without revision, when rebinding same instance, then onBind runs every time`() {
+        // Arrange
+        val delegate = CountingDelegate()
+        core.register(String::class.java, delegate)
+        val holder = LayoutHolder(mockk(relaxed = true))
+
+        // Act
+        repeat(2) { core.onBindViewHolder(holder, "Item", 0) }
+
+        // Assert
+        assertThat(delegate.bindCount).isEqualTo(2)
+    }
+
+    @Test
+    fun `given delegate opted out, when rebinding same item, then onBind runs every time`() {
+        // Arrange
+        val delegate = CountingDelegate().apply { skipRedundantBinds = false; revision = 1 }
+        core.register(String::class.java, delegate)
+        val holder = LayoutHolder(mockk(relaxed = true))
+
+        // Act
+        repeat(3) { core.onBindViewHolder(holder, "Item", 0) }
+
+        // Assert
+        assertThat(delegate.bindCount).isEqualTo(3)
+    }
+
+    @Test
+    fun `given prepared list, when binding, then prepare is not called again`() {
+        // Arrange
+        val delegate = PreparingDelegate()
+        core.register(String::class.java, delegate)
+        val holder = LayoutHolder(mockk(relaxed = true))
+
+        // Act
+        core.prepareRenderModels(listOf("A", "B"))
+        core.onBindViewHolder(holder, "A", 0)
+
+        // Assert
+        assertThat(delegate.prepareCount).isEqualTo(2)
+        assertThat(delegate.boundModel).isEqualTo("model:A")
+    }
+
+    @Test
+    fun `given null revision, when preparing and binding twice, then prepare runs on every bind`() {
+        // Arrange
+        val delegate = PreparingDelegate().apply { revision = null }
+        core.register(String::class.java, delegate)
+        val holder = LayoutHolder(mockk(relaxed = true))
+
+        // Act
+        core.prepareRenderModels(listOf("A"))
+        val preparedAhead = delegate.prepareCount
+        repeat(2) { core.onBindViewHolder(holder, "A", 0) }
+
+        // Assert
+        assertThat(preparedAhead).isEqualTo(0)
+        assertThat(delegate.prepareCount).isEqualTo(2)
+    }
+
+    @Test
+    fun `given list longer than cache, when preparing around anchor, then only anchor side up to capacity is prepared`() {
+        // Arrange
+        val delegate = PreparingDelegate().apply { renderModelCacheSize = 2 }
+        core.register(String::class.java, delegate)
+
+        // Act
+        core.prepareRenderModels(listOf("A", "B", "C", "D"), anchor = 2)
+
+        // Assert
+        assertThat(delegate.prepared).containsExactly("C", "D").inOrder()
+    }
+
+    class PreparingDelegate : FusionDelegate<String, RecyclerView.ViewHolder>() {
+        val prepared = ArrayList<String>()
+        val prepareCount: Int get() = prepared.size
+        var boundModel: Any? = null
+        var revision: Any? = 1
+        override val viewTypeKey: ViewTypeKey = GlobalTypeKey(String::class.java, "preparing")
+        override fun getStableId(item: String): Any = item
+        override fun getRevision(item: String): Any? = revision
+        override fun prepare(item: String): Any {
+            prepared.add(item)
+            return "model:$item"
+        }
+        override fun onCreateViewHolder(parent: ViewGroup): RecyclerView.ViewHolder = mockk()
+        override fun onBindViewHolder(holder: RecyclerView.ViewHolder, item: String, position: Int, payloads: MutableList<Any>) {
+            boundModel = (holder as LayoutHolder).renderModel
+        }
+    }
+
+    class CountingDelegate : FusionDelegate<String, RecyclerView.ViewHolder>() {
+        var bindCount = 0
+        var revision: Any? = null
+        override fun getRevision(item: String): Any? = revision
+        override val viewTypeKey: ViewTypeKey = GlobalTypeKey(String::class.java, "counting")
+        override fun getStableId(item: String): Any = item
+        override fun onCreateViewHolder(parent: ViewGroup): RecyclerView.ViewHolder = mockk()
+        override fun onBindViewHolder(holder: RecyclerView.ViewHolder, item: String, position: Int, payloads: MutableList<Any>) {
+            bindCount++
+        }
+    }
+}
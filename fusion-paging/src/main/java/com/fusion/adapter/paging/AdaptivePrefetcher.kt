@@ -0,0 +1,77 @@
+package com.fusion.adapter.paging
+
+import android.os.SystemClock
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
+import kotlin.math.abs
+import kotlin.math.ceil
+
+/**
+ * [AdaptivePrefetcher]
+ * 按实际滚动速度提前访问分页数据，使已加载窗口始终覆盖 [windowMs] 毫秒的滚动量。
+ *
+ * 速度以“每毫秒经过的条目数”计（即可见区域推进的速率），做指数平滑。
+ * 访问 lookahead 位置的数据会通过 PagingDataAdapter.getItem 向 Paging 报告访问提示，
+ * Paging 据此在 prefetchDistance 之外继续加载后续页；PagingConfig 中的静态 prefetchDistance 仍作为下限生效。
+ */
+internal class AdaptivePrefetcher(
+    private val windowMs: () -> Long,
+    private val itemCount: () -> Int,
+    private val access: (Int) -> Unit
+) : RecyclerView.OnScrollListener() {
+
+    private var lastTime = 0L
+    private var lastAnchor = RecyclerView.NO_POSITION
+    private var itemsPerMs = 0f
+    private var lastTarget = RecyclerView.NO_POSITION
+
+    override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            itemsPerMs = 0f
+            lastAnchor = RecyclerView.NO_POSITION
+        }
+    }
+
+    override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        val window = windowMs()
+        if (window <= 0 || (dx == 0 && dy == 0)) return
+        val forward = if (dy != 0) dy > 0 else dx > 0
+        val anchor = visibleEdge(recyclerView.layoutManager, forward)
+        if (anchor == RecyclerView.NO_POSITION) return
+
+        val now = SystemClock.uptimeMillis()
+        val elapsed = now - lastTime
+        if (lastAnchor != RecyclerView.NO_POSITION && elapsed in 1..MAX_SAMPLE_GAP_MS) {
+            val instant = abs(anchor - lastAnchor).toFloat() / elapsed
+            itemsPerMs = itemsPerMs * 0.6f + instant * 0.4f
+        }
+        lastTime = now
+        lastAnchor = anchor
+
+        val lookahead = ceil(itemsPerMs * window).toInt()
+        if (lookahead <= 0) return
+        val count = itemCount()
+        if (count == 0) return
+        val target = (if (forward) anchor + lookahead else anchor - lookahead).coerceIn(0, count - 1)
+        if (target == lastTarget) return
+        lastTarget = target
+        access(target)
+    }
+
+    private companion object {
+        const val MAX_SAMPLE_GAP_MS = 100L
+    }
+}
+
+/**
+ * 可见区域在滚动方向上的边缘位置；不支持的 LayoutManager 返回 NO_POSITION。
+ */
+internal fun visibleEdge(lm: RecyclerView.LayoutManager?, forward: Boolean): Int = when (lm) {
+    is LinearLayoutManager -> if (forward) lm.findLastVisibleItemPosition() else lm.findFirstVisibleItemPosition()
+    is StaggeredGridLayoutManager -> {
+        val positions = if (forward) lm.findLastVisibleItemPositions(null) else lm.findFirstVisibleItemPositions(null)
+        if (forward) positions.max() else positions.min()
+    }
+    else -> RecyclerView.NO_POSITION
+}
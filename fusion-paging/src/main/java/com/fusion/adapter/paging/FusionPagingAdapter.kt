@@ -1,25 +1,31 @@
 package com.fusion.adapter.paging
 
+import android.os.Handler
+import android.os.Looper
 import android.view.LayoutInflater
 import android.view.View
 import android.view.ViewGroup
 import androidx.annotation.LayoutRes
+import androidx.annotation.MainThread
 import androidx.lifecycle.Lifecycle
 import androidx.paging.CombinedLoadStates
 import androidx.paging.ItemSnapshotList
+import androidx.paging.LoadState
 import androidx.paging.LoadStateAdapter
 import androidx.paging.PagingData
 import androidx.paging.PagingDataAdapter
 import androidx.paging.filter
+import androidx.paging.map
 import androidx.recyclerview.widget.ConcatAdapter
 import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
 import androidx.viewbinding.ViewBinding
 import com.fusion.adapter.Fusion
 import com.fusion.adapter.FusionRegistry
 import com.fusion.adapter.delegate.BindingInflater
 import com.fusion.adapter.delegate.FusionDelegate
-import com.fusion.adapter.exception.UnregisteredTypeException
 import com.fusion.adapter.extensions.setupGridSupport
 import com.fusion.adapter.extensions.setupStaggeredSupport
 import com.fusion.adapter.internal.engine.FusionCore
@@ -32,6 +38,7 @@ import com.fusion.adapter.placeholder.PlaceholderConfigurator
 import com.fusion.adapter.placeholder.PlaceholderDefinitionScope
 import com.fusion.adapter.placeholder.PlaceholderRegistry
 import kotlinx.coroutines.flow.Flow
+import java.util.Collections
 
 /**
  * [FusionPagingAdapter]
@@ -43,26 +50,77 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
 
     private val helperAdapter = PagingHelperAdapter()
 
+    // 占位符 ID 的高 32 位，按实例固定，避免每次 getItemId 都计算 identityHashCode
+    private val placeholderScope = System.identityHashCode(this)
+
+    // [Peek Memo] getItemViewType -> getItemId -> onBindViewHolder 往往连续查询同一位置，
+    // 缓存最近一次 peek 的结果；任何数据变化都会使其失效
+    private var dataVersion = 0
+    private var memoVersion = -1
+    private var memoPosition = RecyclerView.NO_POSITION
+    private var memoItem: T? = null
+
+    // 当前提交对应的校验器，每次页面更新后输出校验耗时（仅 Debug 统计）
+    @Volatile
+    private var activeValidator: PageValidator? = null
+
     init {
         if (Fusion.getConfig().defaultStableIds) {
             setHasStableIds(true)
         }
         helperAdapter.registerAdapterDataObserver(object : RecyclerView.AdapterDataObserver() {
-            override fun onChanged() = notifyDataSetChanged()
-            override fun onItemRangeChanged(positionStart: Int, itemCount: Int) = notifyItemRangeChanged(positionStart, itemCount)
-            override fun onItemRangeChanged(positionStart: Int, itemCount: Int, payload: Any?) = notifyItemRangeChanged(positionStart, itemCount, payload)
-            override fun onItemRangeInserted(positionStart: Int, itemCount: Int) = notifyItemRangeInserted(positionStart, itemCount)
-            override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) = notifyItemRangeRemoved(positionStart, itemCount)
-            override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) = notifyItemMoved(fromPosition, toPosition)
+            // 数据位置需要偏移加载状态头部行
+            override fun onChanged() {
+                dataVersion++
+                keyIndex?.invalidate()
+                notifyDataSetChanged()
+            }
+            override fun onItemRangeChanged(positionStart: Int, itemCount: Int) {
+                dataVersion++
+                keyIndex?.onChanged(positionStart, itemCount)
+                notifyItemRangeChanged(headerCount + positionStart, itemCount)
+            }
+            override fun onItemRangeChanged(positionStart: Int, itemCount: Int, payload: Any?) {
+                dataVersion++
+                keyIndex?.onChanged(positionStart, itemCount)
+                notifyItemRangeChanged(headerCount + positionStart, itemCount, payload)
+            }
+            override fun onItemRangeInserted(positionStart: Int, itemCount: Int) {
+                dataVersion++
+                keyIndex?.onInserted(positionStart, itemCount)
+                notifyItemRangeInserted(headerCount + positionStart, itemCount)
+            }
+            override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) {
+                dataVersion++
+                keyIndex?.onRemoved(positionStart, itemCount)
+                notifyItemRangeRemoved(headerCount + positionStart, itemCount)
+            }
+            override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) {
+                dataVersion++
+                keyIndex?.invalidate()
+                notifyItemMoved(headerCount + fromPosition, headerCount + toPosition)
+            }
             override fun onStateRestorationPolicyChanged() {
                 this@FusionPagingAdapter.stateRestorationPolicy = helperAdapter.stateRestorationPolicy
             }
         })
+        helperAdapter.addOnPagesUpdatedListener { activeValidator?.report() }
+        core.trimMemoryListener = { level -> onTrimMemory(level) }
     }
 
     // --- Registry Delegation ---
-    override fun <T : Any> register(clazz: Class<T>, router: TypeRouter<T>) = core.register(clazz, router)
-    override fun <T : Any> register(clazz: Class<T>, delegate: FusionDelegate<T, *>) = core.register(clazz, delegate)
+    override fun <T : Any> register(clazz: Class<T>, router: TypeRouter<T>) {
+        core.register(clazz, router)
+        verifyHierarchy()
+        sizeRenderModelCaches()
+    }
+
+    override fun <T : Any> register(clazz: Class<T>, delegate: FusionDelegate<T, *>) {
+        core.register(clazz, delegate)
+        verifyHierarchy()
+        sizeRenderModelCaches()
+    }
+
     override fun registerPlaceholder(delegate: FusionPlaceholderDelegate<*>) = core.registerPlaceholder(delegate)
     override fun registerPlaceholder(@LayoutRes layoutResId: Int) = core.registerPlaceholder(layoutResId)
     override fun <VB : ViewBinding> registerPlaceholder(
@@ -75,6 +133,40 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
         configurator: PlaceholderConfigurator<VB>?
     ) = core.registerPlaceholder(inflater, configurator)
 
+    // --- Typed Paging ---
+
+    private var itemHierarchy: Array<out Class<out T>>? = null
+
+    @Volatile
+    private var hierarchyCovered = false
+
+    /**
+     * [Typed Paging] 声明 T 的类型层级，通常是 sealed class 的全部直接子类，或只传根类型本身。
+     *
+     * sealed 层级在编译期封闭，只要声明的每个类型都能解析到已注册的 Router / Delegate，任何 T 实例都必然可渲染。
+     * 覆盖校验在声明时和之后每次注册时各执行一次；覆盖完整时，之后提交的分页流完全跳过逐项的注册校验，
+     * 否则仍由 [PageValidator] 逐类校验。声明不完整（漏掉子类）由调用方负责，Fusion 无法在运行时枚举 sealed 子类。
+     */
+    fun declareItemHierarchy(vararg types: Class<out T>) {
+        require(types.isNotEmpty()) { "Fusion: declareItemHierarchy requires at least one type." }
+        itemHierarchy = types
+        verifyHierarchy()
+    }
+
+    /** 已声明的类型层级是否已被注册完整覆盖。 */
+    val isItemHierarchyCovered: Boolean get() = hierarchyCovered
+
+    private fun verifyHierarchy() {
+        val types = itemHierarchy ?: return
+        val missing = types.filterNot { core.viewTypeRegistry.isClassSupported(it) }
+        hierarchyCovered = missing.isEmpty()
+        if (missing.isEmpty()) {
+            FusionLogger.i("Paging") { "Item hierarchy covered (${types.size} types), per-item validation disabled." }
+        } else {
+            FusionLogger.d("Paging") { "Item hierarchy not covered yet, missing: ${missing.joinToString { it.simpleName }}" }
+        }
+    }
+
     suspend fun submitData(pagingData: PagingData<T>) {
         FusionLogger.i("Paging") { "submitData (suspend) called." }
         helperAdapter.submitData(sanitizePagingData(pagingData))
@@ -86,18 +178,43 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
     }
 
     private fun sanitizePagingData(pagingData: PagingData<T>): PagingData<T> {
-        val config = Fusion.getConfig()
-        return pagingData.filter { item ->
-            if (core.viewTypeRegistry.isSupported(item)) true
-            else {
-                val exception = UnregisteredTypeException(item)
-                FusionLogger.e("Paging", exception) { "Unregistered paging item: ${item.javaClass.simpleName}" }
-                if (config.isDebug) throw exception
-                else {
-                    config.errorListener?.onError(item, exception); false
-                }
-            }
+        // 提交时没有任何 Delegate 声明 prepare() 就不挂预计算变换；之后注册的类型在绑定时按需计算
+        val prepare = core.hasPrepareDelegates()
+        if (hierarchyCovered) {
+            // 层级已被注册完整覆盖：不做任何逐项校验；没有 prepare() 时数据原样透传
+            activeValidator = null
+            return if (prepare) pagingData.map { item -> prepareRenderModel(item) } else pagingData
+        }
+        val validator = PageValidator(core)
+        activeValidator = validator
+        val validated = pagingData.filter { item -> validator.accept(item) }
+        return if (prepare) validated.map { item -> prepareRenderModel(item) } else validated
+    }
+
+    // 主线程上的变换把待预计算的数据攒成一批（通常即一页），整批交给后台执行，避免逐项切换调度器
+    private val pendingPrepare = ArrayList<Any>()
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private val flushPendingPrepare = Runnable {
+        val batch = ArrayList(pendingPrepare)
+        pendingPrepare.clear()
+        core.prepareRenderModelsAsync(batch)
+    }
+
+    /**
+     * [Prepare] 随分页变换为数据预计算渲染模型，结果进入 Delegate 的渲染模型缓存，绑定时直接取用。
+     * 变换已在后台线程时就地计算；在主线程时按批投递到后台，尚未算完就被绑定的数据由绑定阶段自行计算。
+     * 关联 [pagingWindow] 时缓存容量自动扩大到窗口能保留的条目数；未关联时每批最多计算缓存容量条，
+     * 新加载的页靠近滚动方向，LRU 先淘汰已滑出的页。
+     */
+    private fun prepareRenderModel(item: T): T {
+        if (!core.needsPrepare(item)) return item
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            if (pendingPrepare.isEmpty()) mainHandler.post(flushPendingPrepare)
+            pendingPrepare.add(item)
+        } else {
+            core.prepareRenderModel(item)
         }
+        return item
     }
 
     fun retry() = helperAdapter.retry()
@@ -105,10 +222,36 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
     fun snapshot(): ItemSnapshotList<T> = helperAdapter.snapshot()
     fun peek(index: Int): T? = helperAdapter.peek(index)
 
-    override fun getItemCount(): Int = helperAdapter.itemCount
+    /**
+     * [Live View] 当前呈现数据的只读实时视图：不复制数据，占位符位置为 null，位置与 [peek] 一致。
+     * 与 [snapshot] 不同，它随数据更新而变化，只应在主线程读取，不要跨帧持有其迭代器。
+     */
+    val presentedItems: List<T?> = object : AbstractList<T?>() {
+        override val size: Int get() = helperAdapter.itemCount
+        override fun get(index: Int): T? = helperAdapter.peek(index)
+    }
+
+    // 首次按 Key 查询时才创建，之后随更新回调增量维护
+    private var keyIndex: KeyPositionIndex? = null
+
+    /**
+     * 按稳定 Key（Delegate.getStableId 的返回值）查找数据位置，位置与 [peek] 一致（不含加载状态头部行）。
+     * 未加载或不存在时返回 [RecyclerView.NO_POSITION]。
+     */
+    @MainThread
+    fun positionOfKey(key: Any): Int {
+        val index = keyIndex ?: KeyPositionIndex(
+            keyAt = { position -> helperAdapter.peek(position)?.let { core.getStableKey(it) } },
+            size = { helperAdapter.itemCount }
+        ).also { keyIndex = it }
+        return index.positionOf(key)
+    }
+
+    override fun getItemCount(): Int = headerCount + helperAdapter.itemCount + footerCount
 
     override fun getItemViewType(position: Int): Int {
-        val item = helperAdapter.peek(position)
+        rowAt(position)?.let { return core.getItemViewType(it) }
+        val item = peekCached(position - headerCount)
 
         if (item == null) {
             return ViewTypeRegistry.TYPE_PLACEHOLDER
@@ -118,19 +261,356 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
 
     override fun getItemId(position: Int): Long {
         if (!hasStableIds()) return RecyclerView.NO_ID
-        val item = helperAdapter.peek(position)
+        val row = rowAt(position)
+        if (row != null) {
+            return core.getPlaceholderId(if (row.isHeader) HEADER_ROW_ID else FOOTER_ROW_ID, placeholderScope)
+        }
+        val dataPosition = position - headerCount
+        val item = peekCached(dataPosition)
         if (item == null) {
-            return core.getPlaceholderId(position, System.identityHashCode(this))
+            // 按数据位置分配，头部加载状态行出现 / 消失时占位符 ID 不变
+            return core.getPlaceholderId(dataPosition, placeholderScope)
         }
         return core.getItemId(item, position)
     }
 
+    private fun peekCached(position: Int): T? {
+        if (position == memoPosition && memoVersion == dataVersion) return memoItem
+        val item = helperAdapter.peek(position)
+        memoPosition = position
+        memoVersion = dataVersion
+        memoItem = item
+        return item
+    }
+
+    // --- Load State Rows ---
+
+    private var headerRowEnabled = false
+    private var footerRowEnabled = false
+    private var loadStateRowsListening = false
+
+    // 非空即表示该行正在显示
+    private var headerRow: LoadStateItem? = null
+    private var footerRow: LoadStateItem? = null
+
+    private val headerCount: Int get() = if (headerRow != null) 1 else 0
+    private val footerCount: Int get() = if (footerRow != null) 1 else 0
+
+    private val loadStateRowListener: (CombinedLoadStates) -> Unit = { states ->
+        updateHeaderRow(if (headerRowEnabled) states.prepend else null)
+        updateFooterRow(if (footerRowEnabled) states.append else null)
+    }
+
+    /**
+     * [Load State Rows] 在列表首尾以虚拟位置原生渲染 prepend / append 的加载状态，
+     * 不再需要 ConcatAdapter：加载状态行与数据共用同一个 Adapter、ViewType 空间、Stable ID 空间与缓存池。
+     *
+     * 行数据为 [LoadStateItem]，像普通数据一样注册：
+     * ```
+     * adapter.register<LoadStateItem, ItemLoadStateBinding>(ItemLoadStateBinding::inflate) {
+     *     onBind { row -> progress.isVisible = row.loadState is LoadState.Loading }
+     * }
+     * adapter.enableLoadStateRows(header = false, footer = true)
+     * ```
+     * 未注册 [LoadStateItem] 时不显示任何行。
+     */
+    fun enableLoadStateRows(header: Boolean = true, footer: Boolean = true) {
+        headerRowEnabled = header
+        footerRowEnabled = footer
+        if (!loadStateRowsListening) {
+            loadStateRowsListening = true
+            // 注册时会立即回调当前状态
+            addLoadStateListener(loadStateRowListener)
+        } else {
+            updateHeaderRow(if (header) helperAdapter.currentLoadStates?.prepend else null)
+            updateFooterRow(if (footer) helperAdapter.currentLoadStates?.append else null)
+        }
+    }
+
+    /**
+     * 决定某个加载状态是否显示为一行，与 LoadStateAdapter.displayLoadStateAsItem 语义一致。
+     */
+    open fun displayLoadStateAsItem(loadState: LoadState): Boolean =
+        loadState is LoadState.Loading || loadState is LoadState.Error
+
+    private fun resolveRow(state: LoadState?, isHeader: Boolean, current: LoadStateItem?): LoadStateItem? {
+        if (state == null || !displayLoadStateAsItem(state)) return null
+        if (current != null && current.loadState == state) return current
+        val row = LoadStateItem(state, isHeader)
+        return if (core.viewTypeRegistry.isSupported(row)) row else null
+    }
+
+    private fun updateHeaderRow(state: LoadState?) {
+        val old = headerRow
+        val new = resolveRow(state, true, old)
+        if (old === new) return
+        headerRow = new
+        when {
+            old == null -> notifyItemInserted(0)
+            new == null -> notifyItemRemoved(0)
+            else -> notifyItemChanged(0)
+        }
+    }
+
+    private fun updateFooterRow(state: LoadState?) {
+        val old = footerRow
+        val new = resolveRow(state, false, old)
+        if (old === new) return
+        footerRow = new
+        val position = headerCount + helperAdapter.itemCount
+        when {
+            old == null -> notifyItemInserted(position)
+            new == null -> notifyItemRemoved(position)
+            else -> notifyItemChanged(position)
+        }
+    }
+
+    private fun rowAt(position: Int): LoadStateItem? {
+        val header = headerRow
+        if (header != null && position == 0) return header
+        val footer = footerRow
+        if (footer != null && position == headerCount + helperAdapter.itemCount) return footer
+        return null
+    }
+
+    private fun itemAt(position: Int): Any? {
+        rowAt(position)?.let { return it }
+        val dataPosition = position - headerCount
+        return if (dataPosition in 0 until helperAdapter.itemCount) peekCached(dataPosition) else null
+    }
+
+    /**
+     * [Adaptive Prefetch] 以毫秒表示的预取窗口：按观测到的滚动速度提前触发分页加载，
+     * 使已加载数据至少覆盖这么长时间的滚动。0（默认）表示只使用 PagingConfig 的静态 prefetchDistance。
+     */
+    var prefetchWindowMillis: Long = 0L
+        set(value) {
+            require(value >= 0) { "Fusion: prefetchWindowMillis must be >= 0, was $value" }
+            field = value
+        }
+
+    private val prefetcher = AdaptivePrefetcher(
+        windowMs = { prefetchWindowMillis },
+        itemCount = { itemCount },
+        access = { position ->
+            val dataPosition = position - headerCount
+            if (dataPosition in 0 until helperAdapter.itemCount) helperAdapter.getItemInternal(dataPosition)
+        }
+    )
+
+    /**
+     * [Page Window] 关联后，内存压力与条目体积估算会收缩分页窗口，保留量通过 [PagingWindow.stats] 观察。
+     * 未关联时不响应内存压力，分页数据的保留量完全由 PagingConfig 决定。
+     */
+    var pagingWindow: PagingWindow<*>? = null
+        set(value) {
+            field = value
+            updateWindowListener()
+            sizeRenderModelCaches()
+        }
+
+    /**
+     * 估算单个条目的内存体积（字节），配合 [PagingWindow.memoryBudgetBytes] 使用。每次页面更新时抽样少量条目。
+     */
+    var itemSizeEstimator: ((T) -> Int)? = null
+        set(value) {
+            field = value
+            updateWindowListener()
+        }
+
+    /**
+     * 当前保留（已加载、非占位）的条目数。
+     * 已加载的条目在占位符之间连续分布，这里用 peek 二分查找两端，不复制快照。
+     */
+    val retainedItemCount: Int
+        get() {
+            val range = retainedRange()
+            return if (range.isEmpty()) 0 else range.last - range.first + 1
+        }
+
+    // 只有关联了窗口或体积估算时才监听页面更新，避免普通列表每次更新都做额外工作
+    private val windowListener: () -> Unit = { onWindowUpdated() }
+    private var windowListenerAdded = false
+
+    private var itemBytesEstimate = 0L
+    private var recyclerView: RecyclerView? = null
+
+    private var pendingSeek = RecyclerView.NO_POSITION
+    private var pendingSeekOffset = 0
+    // 新一代 Pager 的首次加载是否已开始 / 已结束；结束后无论目标是否加载都结束跳转
+    private var seekRefreshStarted = false
+    private var seekArrived = false
+
+    private val seekLoadStateListener: (CombinedLoadStates) -> Unit = { states ->
+        if (states.refresh is LoadState.Loading) {
+            seekRefreshStarted = true
+        } else if (seekRefreshStarted && !seekArrived) {
+            seekArrived = true
+            restorePendingSeek()
+        }
+    }
+
+    /**
+     * [Seek] 跳转到任意数据位置（如按日期 / 首字母换算出的位置）：丢弃当前窗口，直接加载 [position] 所在的页，
+     * 数据到达后把该位置滚动到距顶部 [offset] 像素处，中间的页不会被加载。
+     *
+     * 需要关联 [pagingWindow]，PagingSource 的 Key 能由位置换算（如 [PagingWindow.positional] 配合
+     * [MappedFilePagingSource]），并开启占位符，使新窗口中的数据位置与完整列表一致。
+     * 超出列表末尾的位置按最后一条处理；新窗口首次加载结束后跳转即完成，未挂载 RecyclerView 时在挂载后执行。
+     */
+    @MainThread
+    fun seekTo(position: Int, offset: Int = 0) {
+        val window = checkNotNull(pagingWindow) { "Fusion: seekTo requires a PagingWindow, set pagingWindow first." }
+        require(position >= 0) { "Fusion: seek position must be >= 0, was $position" }
+        pendingSeek = position
+        pendingSeekOffset = offset
+        seekRefreshStarted = false
+        seekArrived = false
+        helperAdapter.removeLoadStateListener(seekLoadStateListener)
+        helperAdapter.addLoadStateListener(seekLoadStateListener)
+        FusionLogger.i("Paging") { "Seeking to $position, discarding ${retainedItemCount} retained items." }
+        window.seek(position)
+    }
+
+    private fun restorePendingSeek() {
+        val position = pendingSeek
+        if (position == RecyclerView.NO_POSITION) return
+        val dataPosition = position.coerceAtMost(helperAdapter.itemCount - 1)
+        val loaded = dataPosition >= 0 && helperAdapter.peek(dataPosition) != null
+        // 旧 Pager 的更新也可能先到达：目标加载完成，或新一代首次加载结束，才算跳转完成
+        if (!loaded && !seekArrived) return
+        val rv = recyclerView ?: return
+        clearPendingSeek()
+        if (dataPosition < 0) return
+        val target = dataPosition + headerCount
+        when (val lm = rv.layoutManager) {
+            is LinearLayoutManager -> lm.scrollToPositionWithOffset(target, pendingSeekOffset)
+            is StaggeredGridLayoutManager -> lm.scrollToPositionWithOffset(target, pendingSeekOffset)
+            else -> rv.scrollToPosition(target)
+        }
+    }
+
+    private fun clearPendingSeek() {
+        pendingSeek = RecyclerView.NO_POSITION
+        seekRefreshStarted = false
+        seekArrived = false
+        helperAdapter.removeLoadStateListener(seekLoadStateListener)
+    }
+
+    // 窗口内的条目都可能被绑定，渲染模型缓存至少要容纳整个窗口，否则后加载的页会挤掉可见区域的结果
+    private fun sizeRenderModelCaches() {
+        val window = pagingWindow ?: return
+        core.ensureRenderModelCapacity(window.maxRetainedItems)
+    }
+
+    private fun updateWindowListener() {
+        val needed = pagingWindow != null || itemSizeEstimator != null
+        if (needed == windowListenerAdded) return
+        if (needed) helperAdapter.addOnPagesUpdatedListener(windowListener)
+        else helperAdapter.removeOnPagesUpdatedListener(windowListener)
+        windowListenerAdded = needed
+    }
+
+    private fun onWindowUpdated() {
+        restorePendingSeek()
+        val window = pagingWindow ?: return
+        val range = retainedRange()
+        val retained = if (range.isEmpty()) 0 else range.last - range.first + 1
+        window.report(retained)
+
+        val estimator = itemSizeEstimator ?: return
+        if (retained == 0) return
+        val step = maxOf(1, retained / ITEM_SIZE_SAMPLES)
+        var total = 0L
+        var samples = 0
+        var i = range.first
+        while (i <= range.last && samples < ITEM_SIZE_SAMPLES) {
+            val item = helperAdapter.peek(i)
+            if (item != null) {
+                total += estimator(item)
+                samples++
+            }
+            i += step
+        }
+        if (samples == 0) return
+        val average = total / samples
+        itemBytesEstimate = if (itemBytesEstimate == 0L) average else (itemBytesEstimate * 3 + average) / 4
+        if (window.onItemBytesObserved(itemBytesEstimate, anchorPosition())) {
+            FusionLogger.i("Paging") { "Page window shrunk to ${window.maxPages} pages (~$itemBytesEstimate B/item, retained=$retained)." }
+        }
+    }
+
+    /**
+     * 已加载条目所在的数据位置区间。Paging 保证已加载的页首尾相接，占位符只出现在两端，
+     * 找到任意一个已加载位置后即可分别二分出左右边界。
+     */
+    private fun retainedRange(): IntRange {
+        val count = helperAdapter.itemCount
+        if (count == 0) return IntRange.EMPTY
+        val probe = loadedProbe(count)
+        if (probe == RecyclerView.NO_POSITION) return IntRange.EMPTY
+        var lo = 0
+        var hi = probe
+        while (lo < hi) {
+            val mid = (lo + hi) ushr 1
+            if (helperAdapter.peek(mid) != null) hi = mid else lo = mid + 1
+        }
+        val first = lo
+        lo = probe
+        hi = count - 1
+        while (lo < hi) {
+            val mid = (lo + hi + 1) ushr 1
+            if (helperAdapter.peek(mid) != null) lo = mid else hi = mid - 1
+        }
+        return first..lo
+    }
+
+    private fun loadedProbe(count: Int): Int {
+        val anchor = anchorPosition()
+        if (anchor in 0 until count && helperAdapter.peek(anchor) != null) return anchor
+        if (helperAdapter.peek(0) != null) return 0
+        if (helperAdapter.peek(count - 1) != null) return count - 1
+        // 窗口不在两端且锚点不可用时按页步进查找，已加载区间至少包含一页
+        val stride = pagingWindow?.pageSize ?: 1
+        var i = stride
+        while (i < count) {
+            if (helperAdapter.peek(i) != null) return i
+            i += stride
+        }
+        return RecyclerView.NO_POSITION
+    }
+
+    private fun onTrimMemory(level: Int) {
+        val window = pagingWindow ?: return
+        if (window.onTrimMemory(level, anchorPosition())) {
+            FusionLogger.i("Paging") { "Page window shrunk to ${window.maxPages} pages (trim level=$level)." }
+        }
+    }
+
+    private fun anchorPosition(): Int {
+        val edge = visibleEdge(recyclerView?.layoutManager, forward = false)
+        return if (edge == RecyclerView.NO_POSITION) edge else (edge - headerCount).coerceAtLeast(0)
+    }
+
+    // 复用同一个查询函数，避免每次绑定都分配捕获型 Lambda
+    private val delegateLookup: (Any) -> FusionDelegate<Any, *>? = { queryItem ->
+        if (queryItem is FusionPlaceholder) core.getPlaceholderDelegate() else core.getDelegate(queryItem)
+    }
+
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): RecyclerView.ViewHolder = core.onCreateViewHolder(parent, viewType)
 
     override fun onBindViewHolder(holder: RecyclerView.ViewHolder, position: Int) {
-        val item = helperAdapter.getItemInternal(position)
-        val bindItem = item ?: FusionPlaceholder()
-        holder.setupStaggeredSupport(bindItem) { queryItem -> if (queryItem is FusionPlaceholder) core.getPlaceholderDelegate() else core.getDelegate(queryItem) }
+        val row = rowAt(position)
+        if (row != null) {
+            holder.setupStaggeredSupport(row, delegateLookup)
+            holder.itemView.visibility = View.VISIBLE
+            core.onBindViewHolder(holder, row, position)
+            return
+        }
+        // getItem 会向 Paging 报告访问位置以触发加载，这里不能用 peek 代替
+        val item = helperAdapter.getItemInternal(position - headerCount)
+        val bindItem: Any = item ?: FusionPlaceholder.SLOT
+        holder.setupStaggeredSupport(bindItem, delegateLookup)
 
         if (item == null) {
             FusionLogger.d("Paging") { "Binding Placeholder at pos: $position" }
@@ -138,7 +618,7 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
             if (delegate != null) {
                 holder.itemView.visibility = View.VISIBLE
                 @Suppress("UNCHECKED_CAST")
-                (delegate as FusionDelegate<Any, RecyclerView.ViewHolder>).onBindViewHolder(holder, bindItem, position, mutableListOf())
+                (delegate as FusionDelegate<Any, RecyclerView.ViewHolder>).onBindViewHolder(holder, bindItem, position, Collections.emptyList())
             } else {
                 FusionLogger.w("Paging") { "Placeholder requested but no delegate registered!" }
                 holder.itemView.visibility = View.INVISIBLE
@@ -150,11 +630,11 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
     }
 
     override fun onBindViewHolder(holder: RecyclerView.ViewHolder, position: Int, payloads: MutableList<Any>) {
-        if (payloads.isEmpty()) onBindViewHolder(holder, position)
+        if (payloads.isEmpty() || rowAt(position) != null) onBindViewHolder(holder, position)
         else {
-            val item = helperAdapter.getItemInternal(position)
+            val item = helperAdapter.getItemInternal(position - headerCount)
             if (item != null) {
-                holder.setupStaggeredSupport(item) { core.getDelegate(it) }
+                holder.setupStaggeredSupport(item, delegateLookup)
                 core.onBindViewHolder(holder, item, position, payloads)
             } else onBindViewHolder(holder, position)
         }
@@ -163,19 +643,23 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
     override fun onAttachedToRecyclerView(recyclerView: RecyclerView) {
         super.onAttachedToRecyclerView(recyclerView)
         helperAdapter.onAttachedToRecyclerView(recyclerView)
+        core.onAttachedToRecyclerView(recyclerView)
+        this.recyclerView = recyclerView
+        restorePendingSeek()
+        recyclerView.addOnScrollListener(prefetcher)
         recyclerView.setupGridSupport(
             this,
-            { pos -> if (pos in 0 until helperAdapter.itemCount) helperAdapter.peek(pos) else null },
-            { queryItem ->
-                val actualItem = queryItem ?: FusionPlaceholder()
-                if (actualItem is FusionPlaceholder) core.getPlaceholderDelegate()
-                else core.getDelegate(actualItem)
-            })
+            { pos -> itemAt(pos) },
+            delegateLookup
+        )
     }
 
     override fun onDetachedFromRecyclerView(recyclerView: RecyclerView) {
         super.onDetachedFromRecyclerView(recyclerView)
         helperAdapter.onDetachedFromRecyclerView(recyclerView)
+        core.onDetachedFromRecyclerView(recyclerView)
+        if (this.recyclerView === recyclerView) this.recyclerView = null
+        recyclerView.removeOnScrollListener(prefetcher)
     }
 
     val loadStateFlow: Flow<CombinedLoadStates> get() = helperAdapter.loadStateFlow
@@ -184,6 +668,9 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
     fun addOnPagesUpdatedListener(listener: () -> Unit) = helperAdapter.addOnPagesUpdatedListener(listener)
     fun removeOnPagesUpdatedListener(listener: () -> Unit) = helperAdapter.removeOnPagesUpdatedListener(listener)
 
+    /**
+     * 以 ConcatAdapter 包装加载状态。新代码建议使用 [enableLoadStateRows]，避免额外的位置换算层和独立的缓存池。
+     */
     fun withLoadStateHeaderAndFooter(header: LoadStateAdapter<*>, footer: LoadStateAdapter<*>): ConcatAdapter {
         addLoadStateListener { loadStates -> header.loadState = loadStates.prepend; footer.loadState = loadStates.append }
         return ConcatAdapter(header, this, footer)
@@ -215,6 +702,14 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
         com.fusion.adapter.diagnostics.DiagnosticsPrinter.print("Dump", diag)
     }
 
+    private companion object {
+        const val ITEM_SIZE_SAMPLES = 8
+
+        // 加载状态行的 Stable ID 低 32 位，数据位置不会为负数，不会与占位符冲突
+        const val HEADER_ROW_ID = -1
+        const val FOOTER_ROW_ID = -2
+    }
+
     private inner class PagingHelperAdapter : PagingDataAdapter<T, RecyclerView.ViewHolder>(
         object : DiffUtil.ItemCallback<T>() {
             override fun areItemsTheSame(old: T, new: T) = core.areItemsTheSame(old, new)
@@ -224,6 +719,13 @@ open class FusionPagingAdapter<T : Any> : RecyclerView.Adapter<RecyclerView.View
     ) {
         fun getItemInternal(position: Int): T? = super.getItem(position)
 
+        var currentLoadStates: CombinedLoadStates? = null
+            private set
+
+        init {
+            addLoadStateListener { currentLoadStates = it }
+        }
+
         override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): RecyclerView.ViewHolder {
             throw IllegalStateException("Proxy Error")
         }
@@ -0,0 +1,117 @@
+package com.fusion.adapter.paging
+
+/**
+ * [KeyPositionIndex]
+ * 稳定 Key → 数据位置的增量索引，由 Paging 的更新回调驱动。
+ *
+ * 每个位置分配一个序号，位置 = 序号 - [headSeq]：头部插入 / 删除（prepend、丢弃前部页）只移动 [headSeq]，
+ * 尾部插入 / 删除只增减槽位，范围变更（占位符被加载、内容变化）只把对应槽位标记为未解析。
+ * 中间插删、移动和全量刷新只标记失效，在下一次查询时重建一次。
+ *
+ * 更新回调描述的是 DiffUtil 分发过程中的中间状态，而 [keyAt] 读取的是最终呈现的列表，
+ * 因此回调内从不调用 [keyAt]：未解析的槽位在下一次查询时按最终列表解析，命中结果再经 [keyAt] 校验一次。
+ */
+internal class KeyPositionIndex(
+    private val keyAt: (position: Int) -> Any?,
+    private val size: () -> Int
+) {
+    // 与呈现列表一一对应的 Key，占位符为 null，尚未解析的槽位为 UNRESOLVED
+    private val keys = ArrayDeque<Any?>()
+    private val seqs = HashMap<Any, Int>()
+    // 待解析槽位的序号，可能包含已被删除或重复的序号，解析时跳过
+    private val unresolved = ArrayList<Int>()
+    private var headSeq = 0
+    private var dirty = true
+
+    fun positionOf(key: Any): Int {
+        if (dirty || keys.size != size()) rebuild() else resolve()
+        val seq = seqs[key] ?: return -1
+        val position = seq - headSeq
+        if (position in keys.indices && keyAt(position) == key) return position
+        // 索引与呈现列表不一致（不应发生），重建后再查一次
+        rebuild()
+        return seqs[key] ?: -1
+    }
+
+    fun onInserted(start: Int, count: Int) {
+        if (dirty) return
+        when (start) {
+            0 -> repeat(count) {
+                keys.addFirst(UNRESOLVED)
+                headSeq--
+                unresolved.add(headSeq)
+            }
+            keys.size -> repeat(count) {
+                keys.addLast(UNRESOLVED)
+                unresolved.add(headSeq + keys.size - 1)
+            }
+            else -> dirty = true
+        }
+    }
+
+    fun onRemoved(start: Int, count: Int) {
+        if (dirty) return
+        when {
+            start == 0 && count <= keys.size -> repeat(count) {
+                forget(keys.removeFirst(), headSeq)
+                headSeq++
+            }
+            start + count == keys.size -> repeat(count) {
+                val key = keys.removeLast()
+                forget(key, headSeq + keys.size)
+            }
+            else -> dirty = true
+        }
+    }
+
+    fun onChanged(start: Int, count: Int) {
+        if (dirty) return
+        if (start < 0 || start + count > keys.size) {
+            dirty = true
+            return
+        }
+        for (i in start until start + count) {
+            forget(keys[i], headSeq + i)
+            keys[i] = UNRESOLVED
+            unresolved.add(headSeq + i)
+        }
+    }
+
+    fun invalidate() {
+        dirty = true
+    }
+
+    private fun forget(key: Any?, seq: Int) {
+        if (key != null && key !== UNRESOLVED && seqs[key] == seq) seqs.remove(key)
+    }
+
+    private fun resolve() {
+        if (unresolved.isEmpty()) return
+        for (seq in unresolved) {
+            val position = seq - headSeq
+            if (position !in keys.indices || keys[position] !== UNRESOLVED) continue
+            val key = keyAt(position)
+            keys[position] = key
+            if (key != null) seqs[key] = seq
+        }
+        unresolved.clear()
+    }
+
+    private fun rebuild() {
+        keys.clear()
+        seqs.clear()
+        unresolved.clear()
+        headSeq = 0
+        val n = size()
+        for (i in 0 until n) {
+            val key = keyAt(i)
+            keys.addLast(key)
+            if (key != null) seqs[key] = i
+        }
+        dirty = false
+    }
+
+    private companion object {
+        val UNRESOLVED = Any()
+    }
+}
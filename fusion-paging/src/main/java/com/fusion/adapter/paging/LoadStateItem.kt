@@ -0,0 +1,15 @@
+package com.fusion.adapter.paging
+
+import androidx.paging.LoadState
+
+/**
+ * [LoadStateItem]
+ * FusionPagingAdapter 原生加载状态行的数据。[isHeader] 为 true 时对应 prepend 状态，否则对应 append 状态。
+ * 通过普通的 register 为其注册 Delegate，并调用 FusionPagingAdapter.enableLoadStateRows 启用。
+ */
+class LoadStateItem internal constructor(
+    val loadState: LoadState,
+    val isHeader: Boolean
+) {
+    override fun toString(): String = "LoadStateItem(loadState=$loadState, isHeader=$isHeader)"
+}
@@ -0,0 +1,125 @@
+package com.fusion.adapter.paging
+
+import androidx.paging.PagingSource
+import androidx.paging.PagingState
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import java.io.Closeable
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.nio.ByteBuffer
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * [MappedRecordFile]
+ * 只读内存映射的记录文件，可被多个 [MappedFilePagingSource]（每次 invalidate 产生一个新实例）共享。
+ * 映射建立后即可关闭文件句柄；映射本身随对象回收释放。
+ */
+class MappedRecordFile(file: File, val index: RecordIndex) : Closeable {
+
+    private val buffer: MappedByteBuffer
+
+    init {
+        RandomAccessFile(file, "r").use { raf ->
+            val channel = raf.channel
+            require(channel.size() <= Int.MAX_VALUE) { "Fusion: Mapped files are limited to 2GB, ${file.name} is ${channel.size()} bytes" }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+        }
+    }
+
+    /**
+     * 为一次加载创建独立的读取视图（共享底层映射，position / limit 互不干扰）。
+     */
+    internal fun reader(): ByteBuffer = buffer.duplicate()
+
+    override fun close() {
+        // MappedByteBuffer 无法显式解除映射，交由 GC 回收
+    }
+}
+
+/**
+ * [RecordDecoder]
+ * 解码单条记录。调用时 [buffer] 的 position 位于记录起点，limit 为记录终点；
+ * 该 buffer 在同一次加载内复用，不要在解码结果中持有它。
+ * 解码在 Dispatchers.IO 上执行。
+ */
+fun interface RecordDecoder<T : Any> {
+    fun decode(buffer: ByteBuffer, index: Int): T
+}
+
+/**
+ * [MappedFilePagingSource]
+ * 基于内存映射文件的 PagingSource：Key 为记录下标，只解码请求页覆盖的记录。
+ *
+ * 返回 itemsBefore / itemsAfter，配合 PagingConfig(enablePlaceholders = true) 可直接跳转到任意位置，
+ * 记录总数来自 [RecordIndex]，无需事先把数据读成 List。可直接提交给 FusionPagingAdapter。
+ * 滚动跳转还需要设置 PagingConfig.jumpThreshold，[PagingWindow.config] 已默认设置。
+ */
+class MappedFilePagingSource<T : Any>(
+    private val records: MappedRecordFile,
+    private val decoder: RecordDecoder<T>
+) : PagingSource<Int, T>() {
+
+    override val jumpingSupported: Boolean get() = true
+
+    override suspend fun load(params: LoadParams<Int>): LoadResult<Int, T> {
+        val index = records.index
+        val total = index.size
+        val (start, end) = when (params) {
+            is LoadParams.Prepend -> {
+                val end = params.key.coerceIn(0, total)
+                max(0, end - params.loadSize) to end
+            }
+            is LoadParams.Append -> {
+                val start = params.key.coerceIn(0, total)
+                start to min(total, start + params.loadSize)
+            }
+            is LoadParams.Refresh -> {
+                // 跳转 / 刷新的 Key 可能越界，夹紧后保证至少返回最后一页
+                val start = (params.key ?: 0).coerceIn(0, max(0, total - params.loadSize))
+                start to min(total, start + params.loadSize)
+            }
+        }
+
+        // 读取映射页可能触发缺页 I/O，Paging 不会为 load() 切换线程（cachedIn 在 Main 上时即在主线程执行）
+        return withContext(Dispatchers.IO) { loadRange(start, end, total) }
+    }
+
+    private fun loadRange(start: Int, end: Int, total: Int): LoadResult<Int, T> {
+        val index = records.index
+        return try {
+            val reader = records.reader()
+            val data = ArrayList<T>(end - start)
+            for (i in start until end) {
+                val offset = index.offsetOf(i).toInt()
+                reader.limit(offset + index.lengthOf(i))
+                reader.position(offset)
+                data.add(decoder.decode(reader, i))
+                // 恢复 limit，避免下一条记录的 position 越过当前 limit
+                reader.limit(reader.capacity())
+            }
+            LoadResult.Page(
+                data = data,
+                prevKey = if (start > 0) start else null,
+                nextKey = if (end < total) end else null,
+                itemsBefore = start,
+                itemsAfter = total - end
+            )
+        } catch (e: IOException) {
+            LoadResult.Error(e)
+        } catch (e: IndexOutOfBoundsException) {
+            LoadResult.Error(e)
+        } catch (e: IllegalArgumentException) {
+            LoadResult.Error(e)
+        }
+    }
+
+    override fun getRefreshKey(state: PagingState<Int, T>): Int? {
+        val anchor = state.anchorPosition ?: return null
+        return max(0, anchor - state.config.initialLoadSize / 2)
+    }
+}
@@ -0,0 +1,68 @@
+package com.fusion.adapter.paging
+
+import com.fusion.adapter.Fusion
+import com.fusion.adapter.exception.UnregisteredTypeException
+import com.fusion.adapter.internal.engine.FusionCore
+import com.fusion.adapter.log.FusionLogger
+
+/**
+ * [PageValidator]
+ * 一次 submitData 对应一个实例，负责剔除未注册类型的分页数据。
+ *
+ * Paging 的公开 API 只提供逐项变换，因此这里把代价压到最低：每个不同的 Class 只查询一次注册表，
+ * 连续同类（一页通常只有一两种类型）命中时只做一次引用比较。
+ * Debug 下统计校验耗时，每次页面更新后由 [report] 输出。
+ */
+internal class PageValidator(private val core: FusionCore) {
+
+    // Paging 的变换在同一条流上串行执行，无需同步
+    private var lastClass: Class<*>? = null
+    private var lastSupported = false
+    private val verdicts = HashMap<Class<*>, Boolean>(4)
+
+    @Volatile private var pendingItems = 0
+    @Volatile private var pendingNanos = 0L
+
+    fun accept(item: Any): Boolean {
+        val config = Fusion.getConfig()
+        if (!config.isDebug) return check(item)
+
+        val start = System.nanoTime()
+        val supported = check(item)
+        pendingNanos += System.nanoTime() - start
+        pendingItems++
+        return supported
+    }
+
+    private fun check(item: Any): Boolean {
+        val clazz = item.javaClass
+        val supported = if (clazz === lastClass) {
+            lastSupported
+        } else {
+            val verdict = verdicts.getOrPut(clazz) { core.viewTypeRegistry.isSupported(item) }
+            lastClass = clazz
+            lastSupported = verdict
+            verdict
+        }
+        if (!supported) reject(item)
+        return supported
+    }
+
+    private fun reject(item: Any) {
+        val config = Fusion.getConfig()
+        val exception = UnregisteredTypeException(item)
+        FusionLogger.e("Paging", exception) { "Unregistered paging item: ${item.javaClass.simpleName}" }
+        if (config.isDebug) throw exception
+        config.errorListener?.onError(item, exception)
+    }
+
+    /** 输出自上次报告以来（通常即新加载的一页）的校验量与耗时。 */
+    fun report() {
+        val items = pendingItems
+        if (items == 0) return
+        val nanos = pendingNanos
+        pendingItems = 0
+        pendingNanos = 0L
+        FusionLogger.d("Paging") { "Validated $items items (${verdicts.size} classes) in ${nanos / 1000}µs" }
+    }
+}
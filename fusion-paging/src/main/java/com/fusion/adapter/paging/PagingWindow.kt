@@ -0,0 +1,191 @@
+package com.fusion.adapter.paging
+
+import android.content.ComponentCallbacks2
+import androidx.annotation.MainThread
+import androidx.paging.Pager
+import androidx.paging.PagingConfig
+import androidx.paging.PagingData
+import androidx.paging.PagingSource
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.flatMapLatest
+
+/**
+ * [PagingWindow]
+ * 可在运行时收缩的分页窗口。
+ *
+ * PagingConfig.maxSize 在 Pager 创建后不可修改，这里由 [flow] 持有 Pager：预算收缩时以锚点位置对应的 Key
+ * 重建 Pager，远离锚点的页随旧 Pager 一起释放，之后的增长也受新的 maxSize 约束。
+ * 通过 FusionPagingAdapter.pagingWindow 关联后，Adapter 会在 onTrimMemory 和条目体积估算超出
+ * [memoryBudgetBytes] 时收缩窗口，并把保留的页数 / 条目数上报到 [stats]；[seek] 以同样的方式直接跳到任意位置。
+ * 收缩不是永久的：下一次重建（[seek]）或调用 [restore] 时，窗口恢复到构造时的上限（仍受体积预算约束）。
+ *
+ * @param keyForPosition 把列表位置换算为 PagingSource 的 Key，用于重建后从锚点附近开始加载。
+ */
+class PagingWindow<K : Any> @JvmOverloads constructor(
+    val pageSize: Int,
+    maxPages: Int,
+    private val keyForPosition: (position: Int) -> K?,
+    val minPages: Int = MIN_PAGES,
+    val enablePlaceholders: Boolean = true
+) {
+
+    private class Generation<K>(val id: Int, val maxPages: Int, val key: K?)
+
+    init {
+        require(pageSize > 0) { "Fusion: pageSize must be > 0, was $pageSize" }
+        // maxSize 必须不小于 pageSize + 2 * prefetchDistance，prefetchDistance 取一页
+        require(minPages >= MIN_PAGES) { "Fusion: minPages must be >= $MIN_PAGES, was $minPages" }
+        require(maxPages >= minPages) { "Fusion: maxPages ($maxPages) must be >= minPages ($minPages)" }
+    }
+
+    // 构造时的上限，收缩后据此恢复
+    private val configuredMaxPages = maxPages
+
+    private val generation = MutableStateFlow(Generation<K>(0, configuredMaxPages, null))
+
+    private val _stats = MutableStateFlow(PageWindowStats(0, 0, configuredMaxPages))
+
+    // 按条目体积估算出的可承受页数，约束恢复时的上限
+    @Volatile
+    private var affordablePages = Int.MAX_VALUE
+
+    /** 当前保留的页数、条目数以及窗口上限。 */
+    val stats: StateFlow<PageWindowStats> = _stats.asStateFlow()
+
+    /** 当前窗口上限（页）。 */
+    val maxPages: Int get() = generation.value.maxPages
+
+    // 窗口最多保留的条目数（按构造时的上限），用于为渲染模型缓存定容
+    internal val maxRetainedItems: Int get() = configuredMaxPages * pageSize
+
+    /**
+     * 分页数据的内存预算（字节），配合 FusionPagingAdapter.itemSizeEstimator 使用。0（默认）表示不按体积收缩。
+     */
+    @Volatile
+    var memoryBudgetBytes: Long = 0L
+        set(value) {
+            require(value >= 0) { "Fusion: memoryBudgetBytes must be >= 0, was $value" }
+            field = value
+        }
+
+    /**
+     * 按当前窗口创建分页数据流。窗口收缩时自动切换到新的 Pager，调用方照常 cachedIn / submitData 即可。
+     */
+    @OptIn(ExperimentalCoroutinesApi::class)
+    fun <V : Any> flow(initialKey: K? = null, sourceFactory: () -> PagingSource<K, V>): Flow<PagingData<V>> =
+        generation.flatMapLatest { g ->
+            Pager(config(g.maxPages), if (g.id == 0) initialKey else g.key, sourceFactory).flow
+        }
+
+    /**
+     * 开启占位符时设置 jumpThreshold：滚动（如拖动滚动条）越过已加载区域 3 页以上时，
+     * 支持跳转的 PagingSource（如 [MappedFilePagingSource]）直接从目标位置重新加载，不会逐页加载中间的页。
+     */
+    fun config(maxPages: Int = this.maxPages): PagingConfig = PagingConfig(
+        pageSize = pageSize,
+        prefetchDistance = pageSize,
+        enablePlaceholders = enablePlaceholders,
+        initialLoadSize = pageSize * MIN_PAGES,
+        maxSize = maxPages * pageSize,
+        jumpThreshold = if (enablePlaceholders) pageSize * JUMP_PAGES else PagingSource.LoadResult.Page.COUNT_UNDEFINED
+    )
+
+    /**
+     * 把窗口收缩到 [maxPages] 页（不低于 [minPages]），并从 [anchorPosition] 附近重新加载。
+     * 新上限不小于当前上限时不做任何事。
+     *
+     * @return 是否触发了重建
+     */
+    @MainThread
+    fun shrink(maxPages: Int, anchorPosition: Int): Boolean {
+        val target = maxPages.coerceAtLeast(minPages)
+        val current = generation.value
+        if (target >= current.maxPages) return false
+        generation.value = Generation(current.id + 1, target, keyForPosition(anchorPosition.coerceAtLeast(0)))
+        _stats.value = _stats.value.copy(maxPages = target)
+        return true
+    }
+
+    /**
+     * 丢弃当前窗口，以 [position] 对应的 Key 创建新的 Pager，直接加载目标页，中间的页不会被加载。
+     * 此前因内存压力收缩的上限会随重建恢复到构造时的值（仍受体积预算约束）。
+     */
+    @MainThread
+    fun seek(position: Int) {
+        val current = generation.value
+        val target = restoredMaxPages()
+        generation.value = Generation(current.id + 1, target, keyForPosition(position.coerceAtLeast(0)))
+        if (target != current.maxPages) _stats.value = _stats.value.copy(maxPages = target)
+    }
+
+    /**
+     * 内存压力缓解后把窗口恢复到构造时的上限（不超过体积预算允许的页数），并从 [anchorPosition] 附近重新加载。
+     *
+     * @return 是否触发了重建
+     */
+    @MainThread
+    fun restore(anchorPosition: Int): Boolean {
+        val target = restoredMaxPages()
+        val current = generation.value
+        if (target <= current.maxPages) return false
+        generation.value = Generation(current.id + 1, target, keyForPosition(anchorPosition.coerceAtLeast(0)))
+        _stats.value = _stats.value.copy(maxPages = target)
+        return true
+    }
+
+    private fun restoredMaxPages(): Int = minOf(configuredMaxPages, affordablePages).coerceAtLeast(minPages)
+
+    /**
+     * RUNNING_LOW 时窗口减半；RUNNING_CRITICAL 及后台级别直接收缩到 [minPages]。
+     * UI_HIDDEN 只表示界面进入后台，不是内存压力，不做处理。
+     */
+    internal fun onTrimMemory(level: Int, anchorPosition: Int): Boolean {
+        val target = when {
+            level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN -> return false
+            level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL -> minPages
+            else -> maxPages / 2
+        }
+        return shrink(target, anchorPosition)
+    }
+
+    internal fun onItemBytesObserved(averageBytes: Long, anchorPosition: Int): Boolean {
+        val budget = memoryBudgetBytes
+        if (budget <= 0 || averageBytes <= 0) return false
+        val affordable = (budget / (averageBytes * pageSize)).coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+        affordablePages = affordable
+        return shrink(affordable, anchorPosition)
+    }
+
+    internal fun report(retainedItems: Int) {
+        val pages = (retainedItems + pageSize - 1) / pageSize
+        val current = _stats.value
+        if (current.retainedItems == retainedItems && current.maxPages == maxPages) return
+        _stats.value = PageWindowStats(pages, retainedItems, maxPages)
+    }
+
+    companion object {
+        private const val MIN_PAGES = 3
+        private const val JUMP_PAGES = 3
+
+        /**
+         * 以列表位置为 Key 的窗口（如 [MappedFilePagingSource]）。重建时从锚点前一页开始加载。
+         */
+        @JvmStatic
+        fun positional(pageSize: Int, maxPages: Int): PagingWindow<Int> =
+            PagingWindow(pageSize, maxPages, { position -> (position - pageSize).coerceAtLeast(0) })
+    }
+}
+
+/**
+ * [PageWindowStats]
+ * [PagingWindow] 的保留量快照。
+ */
+data class PageWindowStats(
+    val retainedPages: Int,
+    val retainedItems: Int,
+    val maxPages: Int
+)
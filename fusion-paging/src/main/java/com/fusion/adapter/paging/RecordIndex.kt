@@ -0,0 +1,77 @@
+package com.fusion.adapter.paging
+
+import java.io.File
+import java.io.RandomAccessFile
+import java.nio.LongBuffer
+import java.nio.channels.FileChannel
+
+/**
+ * [RecordIndex]
+ * 记录在数据文件中的位置索引：第 i 条记录占据 [offsetOf(i), offsetOf(i) + lengthOf(i)) 字节。
+ * 供 [MappedFilePagingSource] 随机定位，不需要把记录读进内存。
+ */
+interface RecordIndex {
+
+    /** 记录总数。 */
+    val size: Int
+
+    fun offsetOf(index: Int): Long
+
+    fun lengthOf(index: Int): Int
+
+    companion object {
+        /**
+         * 定长记录：文件头 [headerBytes] 之后连续存放，每条 [recordLength] 字节。
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun fixed(recordLength: Int, fileLength: Long, headerBytes: Long = 0L): RecordIndex {
+            require(recordLength > 0) { "Fusion: recordLength must be > 0, was $recordLength" }
+            require(headerBytes in 0..fileLength) { "Fusion: headerBytes $headerBytes is outside the file ($fileLength bytes)" }
+            val count = (fileLength - headerBytes) / recordLength
+            require(count <= Int.MAX_VALUE) { "Fusion: Too many records ($count)" }
+            return FixedLengthIndex(recordLength, count.toInt(), headerBytes)
+        }
+
+        /**
+         * 变长记录：[offsets] 为每条记录的起始偏移（递增），最后一条记录到 [endOffset] 为止。
+         */
+        @JvmStatic
+        fun fromOffsets(offsets: LongArray, endOffset: Long): RecordIndex =
+            OffsetIndex(LongBuffer.wrap(offsets), endOffset)
+
+        /**
+         * 变长记录：从索引文件读取起始偏移（大端 64 位整数序列）。
+         * 索引文件同样以只读内存映射的方式访问，不会整体读入堆内存。
+         */
+        @JvmStatic
+        fun mapOffsets(indexFile: File, endOffset: Long): RecordIndex {
+            RandomAccessFile(indexFile, "r").use { raf ->
+                val channel = raf.channel
+                require(channel.size() <= Int.MAX_VALUE) { "Fusion: Index file too large (${channel.size()} bytes)" }
+                val longs = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asLongBuffer()
+                return OffsetIndex(longs, endOffset)
+            }
+        }
+    }
+}
+
+private class FixedLengthIndex(
+    private val recordLength: Int,
+    override val size: Int,
+    private val headerBytes: Long
+) : RecordIndex {
+    override fun offsetOf(index: Int): Long = headerBytes + index.toLong() * recordLength
+    override fun lengthOf(index: Int): Int = recordLength
+}
+
+private class OffsetIndex(private val offsets: LongBuffer, private val endOffset: Long) : RecordIndex {
+    override val size: Int = offsets.limit()
+
+    override fun offsetOf(index: Int): Long = offsets.get(index)
+
+    override fun lengthOf(index: Int): Int {
+        val end = if (index + 1 < size) offsets.get(index + 1) else endOffset
+        return (end - offsets.get(index)).toInt()
+    }
+}
@@ -1,9 +1,12 @@
 package com.fusion.adapter.paging
 
+import android.content.ComponentCallbacks2
 import com.fusion.adapter.Fusion
 import com.fusion.adapter.FusionConfig
 import com.fusion.adapter.delegate.FusionDelegate
 import com.fusion.adapter.core.GlobalTypeKey
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.ListUpdateCallback
 import com.fusion.adapter.internal.registry.ViewTypeRegistry
 import com.google.common.truth.Truth.assertThat
 import io.mockk.every
@@ -46,4 +49,143 @@ class FusionPagingAdapterTest {
         // Paging spec implies placeholder handling, verifying the constant is correct
         assertThat(ViewTypeRegistry.TYPE_PLACEHOLDER).isEqualTo(-2049)
     }
+
+    @Test
+    fun givenMixedPage_whenValidating_thenOnlyRegisteredClassesPass() {
+        // Arrange
+        val mockDelegate = mockk<FusionDelegate<String, *>>()
+        every { mockDelegate.viewTypeKey } returns GlobalTypeKey(String::class.java, "string")
+        adapter.register(String::class.java, mockDelegate)
+        val validator = PageValidator(adapter.core)
+
+        // Act
+        val accepted = listOf<Any>("a", "b", 1, "c", 2).filter { validator.accept(it) }
+
+        // Assert
+        assertThat(accepted).containsExactly("a", "b", "c").inOrder()
+    }
+
+    @Test
+    fun givenPagingWindow_whenMemoryTrimmed_thenWindowShrinksAndStatsReflectIt() {
+        // Arrange
+        val window = PagingWindow.positional(pageSize = 20, maxPages = 12)
+        adapter.pagingWindow = window
+
+        // Act
+        adapter.core.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+        val afterLow = window.maxPages
+        adapter.core.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL)
+
+        // Assert
+        assertThat(afterLow).isEqualTo(6)
+        assertThat(window.maxPages).isEqualTo(window.minPages)
+        assertThat(window.stats.value.maxPages).isEqualTo(window.minPages)
+        assertThat(window.config().maxSize).isEqualTo(window.minPages * 20)
+    }
+
+    @Test
+    fun givenShrunkPagingWindow_whenUiHiddenThenRestored_thenWindowGrowsBackToConfiguredMax() {
+        // Arrange
+        val window = PagingWindow.positional(pageSize = 20, maxPages = 12)
+        adapter.pagingWindow = window
+        adapter.core.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL)
+
+        // Act
+        adapter.core.trimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+        val afterHidden = window.maxPages
+        val restored = window.restore(anchorPosition = 0)
+
+        // Assert
+        assertThat(afterHidden).isEqualTo(window.minPages)
+        assertThat(restored).isTrue()
+        assertThat(window.maxPages).isEqualTo(12)
+        assertThat(window.stats.value.maxPages).isEqualTo(12)
+        assertThat(window.restore(anchorPosition = 0)).isFalse()
+    }
+
+    @Test
+    fun givenKeyIndex_whenPagesPrependedAppendedAndDropped_thenLookupsFollowIncrementally() {
+        // Arrange
+        val presented = mutableListOf("c", "d")
+        val index = KeyPositionIndex(keyAt = { presented[it] }, size = { presented.size })
+        assertThat(index.positionOf("d")).isEqualTo(1)
+
+        // Act: prepend 一页、append 一页、丢弃最前面一页
+        presented.addAll(0, listOf("a", "b"))
+        index.onInserted(0, 2)
+        presented.addAll(listOf("e", "f"))
+        index.onInserted(4, 2)
+        presented.subList(0, 2).clear()
+        index.onRemoved(0, 2)
+
+        // Assert
+        assertThat(index.positionOf("c")).isEqualTo(0)
+        assertThat(index.positionOf("f")).isEqualTo(3)
+        assertThat(index.positionOf("a")).isEqualTo(-1)
+    }
+
+    @Test
+    fun givenKeyIndex_whenRefreshDispatchedByDiffUtil_thenLookupsFollowFinalList() {
+        // Arrange: 回调期间 keyAt 读取的是最终列表，与 Paging 的 peek 一致
+        var presented = listOf<String?>("a", "b", "c", "d")
+        val index = KeyPositionIndex(keyAt = { presented[it] }, size = { presented.size })
+        assertThat(index.positionOf("d")).isEqualTo(3)
+
+        // Act: [a,b,c,d] -> [c,d,e,f]；prepend 占位符并丢弃尾页；占位符就地加载为 [x,y]
+        dispatchDiff(index, presented, listOf("c", "d", "e", "f")) { presented = it }
+        val afterRefresh = listOf("c", "f", "a").map { index.positionOf(it) }
+        dispatchDiff(index, presented, listOf(null, null, "c", "d")) { presented = it }
+        dispatchDiff(index, presented, listOf("x", "y", "c", "d")) { presented = it }
+
+        // Assert
+        assertThat(afterRefresh).containsExactly(0, 3, -1).inOrder()
+        assertThat(index.positionOf("x")).isEqualTo(0)
+        assertThat(index.positionOf("d")).isEqualTo(3)
+        assertThat(index.positionOf("e")).isEqualTo(-1)
+    }
+
+    private fun dispatchDiff(
+        index: KeyPositionIndex,
+        old: List<String?>,
+        new: List<String?>,
+        present: (List<String?>) -> Unit
+    ) {
+        val diff = DiffUtil.calculateDiff(object : DiffUtil.Callback() {
+            override fun getOldListSize() = old.size
+            override fun getNewListSize() = new.size
+            // 占位符被加载时按原位变更分发，与 Paging 一致
+            override fun areItemsTheSame(oldPosition: Int, newPosition: Int) =
+                old[oldPosition] == null && new[newPosition] != null || old[oldPosition] == new[newPosition]
+            override fun areContentsTheSame(oldPosition: Int, newPosition: Int) = old[oldPosition] == new[newPosition]
+        })
+        present(new)
+        diff.dispatchUpdatesTo(object : ListUpdateCallback {
+            override fun onInserted(position: Int, count: Int) = index.onInserted(position, count)
+            override fun onRemoved(position: Int, count: Int) = index.onRemoved(position, count)
+            override fun onMoved(fromPosition: Int, toPosition: Int) = index.invalidate()
+            override fun onChanged(position: Int, count: Int, payload: Any?) = index.onChanged(position, count)
+        })
+    }
+
+    @Test
+    fun givenDeclaredHierarchy_whenCoveringDelegateRegistered_thenPerItemValidationIsDisabled() {
+        // Arrange
+        adapter.declareItemHierarchy(String::class.java)
+        val coveredBefore = adapter.isItemHierarchyCovered
+        val mockDelegate = mockk<FusionDelegate<String, *>>()
+        every { mockDelegate.viewTypeKey } returns GlobalTypeKey(String::class.java, "string")
+
+        // Act
+        adapter.register(String::class.java, mockDelegate)
+
+        // Assert
+        assertThat(coveredBefore).isFalse()
+        assertThat(adapter.isItemHierarchyCovered).isTrue()
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun givenNoPagingWindow_whenSeeking_thenItShouldFailFast() {
+        // Act
+        adapter.seekTo(500)
+    }
 }
@@ -0,0 +1,70 @@
+package com.fusion.adapter.paging
+
+import androidx.paging.PagingSource
+import com.google.common.truth.Truth.assertThat
+import kotlinx.coroutines.runBlocking
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import java.io.File
+
+class MappedFilePagingSourceTest {
+
+    private lateinit var file: File
+
+    @Before
+    fun setup() {
+        // 1000 条定长记录，每条一个 Int
+        file = File.createTempFile("records", ".bin")
+        file.outputStream().buffered().use { out ->
+            for (i in 0 until 1000) {
+                out.write(byteArrayOf((i ushr 24).toByte(), (i ushr 16).toByte(), (i ushr 8).toByte(), i.toByte()))
+            }
+        }
+    }
+
+    @After
+    fun tearDown() {
+        file.delete()
+    }
+
+    @Test
+    fun givenFixedLengthFile_whenRefreshWithJumpKey_thenOnlyRequestedPageIsDecodedWithCounts() = runBlocking {
+        // Arrange
+        val decoded = mutableListOf<Int>()
+        val records = MappedRecordFile(file, RecordIndex.fixed(4, file.length()))
+        val source = MappedFilePagingSource(records) { buffer, index ->
+            decoded.add(index)
+            buffer.int
+        }
+
+        // Act
+        val result = source.load(PagingSource.LoadParams.Refresh(key = 500, loadSize = 20, placeholdersEnabled = true))
+
+        // Assert
+        val page = result as PagingSource.LoadResult.Page
+        assertThat(page.data).isEqualTo((500 until 520).toList())
+        assertThat(decoded).hasSize(20)
+        assertThat(page.prevKey).isEqualTo(500)
+        assertThat(page.nextKey).isEqualTo(520)
+        assertThat(page.itemsBefore).isEqualTo(500)
+        assertThat(page.itemsAfter).isEqualTo(480)
+    }
+
+    @Test
+    fun givenVariableLengthIndex_whenPrepend_thenRecordsBeforeKeyAreReturned() = runBlocking {
+        // Arrange: 把 Int 记录两两合并为变长记录，解码为首个 Int
+        val offsets = LongArray(500) { it * 8L }
+        val records = MappedRecordFile(file, RecordIndex.fromOffsets(offsets, file.length()))
+        val source = MappedFilePagingSource(records) { buffer, _ -> buffer.remaining() to buffer.int }
+
+        // Act
+        val result = source.load(PagingSource.LoadParams.Prepend(key = 3, loadSize = 10, placeholdersEnabled = true))
+
+        // Assert
+        val page = result as PagingSource.LoadResult.Page
+        assertThat(page.data).containsExactly(8 to 0, 8 to 2, 8 to 4).inOrder()
+        assertThat(page.prevKey).isNull()
+        assertThat(page.nextKey).isEqualTo(3)
+    }
+}